@@ -0,0 +1,28 @@
+package com.example.taskflow.config;
+
+import com.example.taskflow.utils.InvalidationTransport;
+import com.example.taskflow.utils.LocalInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    /**
+     * Single node (the default): invalidations never leave the process, since there is no other node to tell.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "local", matchIfMissing = true)
+    public InvalidationTransport localInvalidationTransport() {
+        return new LocalInvalidationTransport();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "kafka")
+    public InvalidationTransport kafkaInvalidationTransport(@Value("${cache.invalidation.kafka.bootstrap-servers}") String bootstrapServers,
+                                                            @Value("${cache.invalidation.kafka.topic}") String topic) {
+        return new KafkaInvalidationTransport(bootstrapServers, topic);
+    }
+}
@@ -5,9 +5,13 @@ import com.example.taskflow.enums.RoleType;
 import com.example.taskflow.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
@@ -15,9 +19,12 @@ public class DataInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
 
+    // Runs off the startup thread once the application is ready, so the count() query and the admin
+    // password hash do not add to time-to-ready
     @Bean
-    public CommandLineRunner initializeData(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        return args -> {
+    public ApplicationListener<ApplicationReadyEvent> initializeData(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                                                     @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor) {
+        return event -> taskExecutor.execute(() -> {
             // Check if any users exist
             if (userRepository.count() == 0) {
                 logger.info("No users found in database. Creating initial admin user...");
@@ -40,6 +47,6 @@ public class DataInitializer {
             } else {
                 logger.info("Users already exist in database. Skipping initialization.");
             }
-        };
+        });
     }
 }
@@ -0,0 +1,29 @@
+package com.example.taskflow.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Marks auto-configured beans that are not needed to serve API traffic as lazy, so they are created on
+ * first use instead of during startup. The Thymeleaf engine only renders mail templates for
+ * {@link com.example.taskflow.service.EmailService}.
+ */
+@Configuration
+public class DeferredBeansConfig {
+
+    private static final List<String> DEFERRED_BEANS = List.of("templateEngine", "defaultTemplateResolver");
+
+    @Bean
+    public static BeanFactoryPostProcessor deferredBeansPostProcessor() {
+        return beanFactory -> {
+            for (String name : DEFERRED_BEANS) {
+                if(beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.taskflow.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops: those discarded because the queue is above
+ * the discarding threshold, and (with {@code neverBlock}) those that find the queue full. The check
+ * runs just before the enqueue, so under contention the count is approximate.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+    private static final LongAdder DROPPED = new LongAdder();
+
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if(isStarted()) {
+            int remaining = getRemainingCapacity();
+            if((remaining == 0 && isNeverBlock()) || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+                DROPPED.increment();
+            }
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskflow.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the migrations on startup unless {@code spring.flyway.enabled} is false. The auto-configuration only
+ * reads that property to decide whether to create its beans, which AOT processing (the fast-start build)
+ * fixes at build time, so it is checked again here at runtime; the CDS training run relies on it.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${spring.flyway.enabled:true}") boolean enabled) {
+        return flyway -> {
+            if(enabled) {
+                flyway.migrate();
+            }
+        };
+    }
+}
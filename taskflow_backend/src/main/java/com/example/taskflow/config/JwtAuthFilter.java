@@ -1,11 +1,14 @@
 package com.example.taskflow.config;
 
+import com.example.taskflow.service.InactiveUserRegistry;
+import com.example.taskflow.service.TokenRevocationService;
 import com.example.taskflow.utils.JwtAuth;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -19,34 +22,25 @@ import java.util.Collections;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtAuth jwtAuth;
+    private final TokenRevocationService tokenRevocationService;
+    private final InactiveUserRegistry inactiveUserRegistry;
 
-    public JwtAuthFilter(JwtAuth jwtAuth) {
+    public JwtAuthFilter(JwtAuth jwtAuth, TokenRevocationService tokenRevocationService, InactiveUserRegistry inactiveUserRegistry) {
         this.jwtAuth = jwtAuth;
+        this.tokenRevocationService = tokenRevocationService;
+        this.inactiveUserRegistry = inactiveUserRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String token = null;
+        String token = jwtAuth.resolveToken(request);
+        Claims claims = token != null ? jwtAuth.parseClaims(token) : null;
 
-        if(request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if("token".equalsIgnoreCase(cookie.getName())) {
-                    token = cookie.getValue();
-                    break;
-                }
-            }
-        }
+        Long userId = claims != null ? Long.valueOf(claims.getSubject()) : null;
 
-        if(token == null) {
-            String authHeader = request.getHeader("Authorization");
-            if(authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-            }
-        }
-
-        if(token != null && jwtAuth.isTokenValid(token)) {
-            Long userId = jwtAuth.getUserIdFromToken(token);
-            String role = jwtAuth.getRoleFromToken(token);
+        if(claims != null && !tokenRevocationService.isRevoked(claims) && !inactiveUserRegistry.isInactive(userId)) {
+            String role = claims.get("role", String.class);
+            MDC.put(RequestLoggingContextFilter.USER_ID, claims.getSubject());
 
             if(SecurityContextHolder.getContext().getAuthentication() == null) {
                 UsernamePasswordAuthenticationToken authUser = new UsernamePasswordAuthenticationToken(
@@ -61,8 +55,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         } else {
             if (token == null)
                 logger.warn("No token found in request");
-            else
+            else if (claims == null)
                 logger.warn("Invalid JWT token");
+            else if (inactiveUserRegistry.isInactive(userId))
+                logger.warn("JWT token of inactive user");
+            else
+                logger.warn("Revoked JWT token");
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,99 @@
+package com.example.taskflow.config;
+
+import com.example.taskflow.utils.InvalidationTransport;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts invalidation messages over one Kafka topic. Every node consumes with its own consumer group
+ * from the latest offset, so each node sees every message published while it is running; nothing is
+ * replayed after a restart, when the caches start empty anyway. Uses the plain Kafka clients, since the
+ * Spring Kafka auto-configuration is disabled for this application.
+ */
+public class KafkaInvalidationTransport implements InvalidationTransport {
+    private static final Logger logger = LoggerFactory.getLogger(KafkaInvalidationTransport.class);
+
+    private final String topic;
+    private final KafkaProducer<String, String> producer;
+    private final KafkaConsumer<String, String> consumer;
+    private final List<Consumer<String>> receivers = new CopyOnWriteArrayList<>();
+    private final Thread poller;
+    private volatile boolean running = true;
+
+    public KafkaInvalidationTransport(String bootstrapServers, String topic) {
+        this.topic = topic;
+        this.producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.ACKS_CONFIG, "1",
+                ProducerConfig.LINGER_MS_CONFIG, 0,
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class));
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "taskflow-invalidation-" + UUID.randomUUID(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class));
+
+        this.poller = new Thread(this::poll, "cache-invalidation-consumer");
+        this.poller.setDaemon(true);
+        this.poller.start();
+    }
+
+    @Override
+    public void send(String message) {
+        producer.send(new ProducerRecord<>(topic, message), (metadata, e) -> {
+            if(e != null) {
+                logger.warn("Failed to publish cache invalidation: {}", e.toString());
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<String> receiver) {
+        receivers.add(receiver);
+    }
+
+    private void poll() {
+        try {
+            consumer.subscribe(List.of(topic));
+            while (running) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofSeconds(1))) {
+                    for (Consumer<String> receiver : receivers) {
+                        receiver.accept(record.value());
+                    }
+                }
+            }
+        } catch (WakeupException e) {
+            // closing
+        } catch (RuntimeException e) {
+            logger.error("Cache invalidation consumer stopped: {}", e.getMessage(), e);
+        } finally {
+            consumer.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        consumer.wakeup();
+        producer.close(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.taskflow.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingMetricsConfig {
+
+    /**
+     * Log events that never reached the console, configured in logback-spring.xml: {@code reason=queue}
+     * for events the async appender dropped, {@code reason=sampled} for events the sampling filter denied.
+     */
+    @Bean
+    public MeterBinder droppedLogEventsMeter() {
+        return registry -> {
+            FunctionCounter.builder("taskflow.logging.dropped", DropCountingAsyncAppender.class, appender -> DropCountingAsyncAppender.droppedCount())
+                    .tag("reason", "queue")
+                    .register(registry);
+            FunctionCounter.builder("taskflow.logging.dropped", SamplingTurboFilter.class, filter -> SamplingTurboFilter.sampledOutCount())
+                    .tag("reason", "sampled")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskflow.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Carries the read-your-writes marker of {@link ReplicaRoutingDataSource} with the client: the commit time
+ * of its latest write is set in the {@code last_write} cookie, and read back on its next requests to any node,
+ * whose clock is taken to agree with the writing node's. Only registered when the replica is enabled.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String LAST_WRITE_COOKIE = "last_write";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ReplicaRoutingDataSource.enterClientRequest(lastWriteAt(request), committedAt -> {
+            // writes commit before the controller returns, so the response is normally still open
+            if(!response.isCommitted()) {
+                Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(committedAt));
+                cookie.setHttpOnly(true);
+                cookie.setPath("/");
+                cookie.setAttribute("SameSite", "Lax");
+                response.addCookie(cookie);
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.exitClientRequest();
+        }
+    }
+
+    private static long lastWriteAt(HttpServletRequest request) {
+        if(request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if(LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+}
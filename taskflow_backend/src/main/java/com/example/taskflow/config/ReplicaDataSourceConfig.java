@@ -0,0 +1,159 @@
+package com.example.taskflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Read/write splitting: read-only transactions of {@link ReplicaRead} methods read from the replica pool,
+ * everything else uses the primary. Disabled unless {@code datasource.replica.enabled=true}, in which
+ * case the default single-pool setup from {@code spring.datasource.*} applies.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource, HikariDataSource primaryDataSource,
+                                               HikariDataSource replicaDataSource,
+                                               @Value("${datasource.replica.lag-query}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, new JdbcTemplate(primaryDataSource), new JdbcTemplate(replicaDataSource), lagQuery, maxLagMs);
+    }
+
+    /**
+     * Takes the replica out of rotation while its replay lag exceeds {@code maxLagMs} or it cannot be reached.
+     * Each check also samples the primary's WAL position, and once the replica has replayed up to a sample,
+     * every write committed before that sample was taken is visible on the replica.
+     */
+    public static class ReplicaLagMonitor {
+        private static final String PRIMARY_LSN_QUERY = "SELECT CAST(pg_current_wal_lsn() AS text)";
+        // a replica that is not in recovery (e.g. the primary itself in development) has replayed everything
+        private static final String REPLAY_LSN_QUERY = "SELECT CAST(COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn()) AS text)";
+        // one sample per check; while the replica does not catch up the oldest are dropped
+        private static final int MAX_SAMPLES = 600;
+
+        private final ReplicaRoutingDataSource routingDataSource;
+        private final JdbcTemplate primary;
+        private final JdbcTemplate replica;
+        private final String lagQuery;
+        private final long maxLagMs;
+        // [taken at (epoch ms), primary LSN], oldest first
+        private final Deque<long[]> primarySamples = new ArrayDeque<>();
+
+        public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, JdbcTemplate primary, JdbcTemplate replica, String lagQuery, long maxLagMs) {
+            this.routingDataSource = routingDataSource;
+            this.primary = primary;
+            this.replica = replica;
+            this.lagQuery = lagQuery;
+            this.maxLagMs = maxLagMs;
+        }
+
+        @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:1000}")
+        public synchronized void check() {
+            boolean available;
+            try {
+                Long lagMs = replica.queryForObject(lagQuery, Long.class);
+                available = lagMs != null && lagMs <= maxLagMs;
+                if(!available) {
+                    logger.warn("Replica lag {} ms exceeds {} ms - routing reads to primary", lagMs, maxLagMs);
+                }
+            } catch (Exception e) {
+                available = false;
+                logger.warn("Replica unavailable - routing reads to primary: {}", e.getMessage());
+            }
+
+            if(available && !routingDataSource.isReplicaAvailable()) {
+                logger.info("Replica caught up - routing reads to replica again");
+            }
+
+            routingDataSource.setReplicaAvailable(available);
+            if(available) {
+                trackReplay();
+            }
+        }
+
+        private void trackReplay() {
+            try {
+                long takenAt = System.currentTimeMillis();
+                primarySamples.addLast(new long[] {takenAt, lsn(primary.queryForObject(PRIMARY_LSN_QUERY, String.class))});
+                if(primarySamples.size() > MAX_SAMPLES) {
+                    primarySamples.removeFirst();
+                }
+
+                long replayed = lsn(replica.queryForObject(REPLAY_LSN_QUERY, String.class));
+                long[] reached = null;
+                while (!primarySamples.isEmpty() && primarySamples.peekFirst()[1] <= replayed) {
+                    reached = primarySamples.removeFirst();
+                }
+                if(reached != null) {
+                    routingDataSource.setReplayedThrough(reached[0]);
+                }
+            } catch (Exception e) {
+                logger.warn("Could not compare replica replay position with the primary: {}", e.getMessage());
+            }
+        }
+
+        // "16/B374D848" -> 0x16B374D848
+        static long lsn(String text) {
+            int slash = text.indexOf('/');
+            return (Long.parseLong(text.substring(0, slash), 16) << 32) | Long.parseLong(text.substring(slash + 1), 16);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskflow.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transactions of a service method read from the replica (see
+ * {@link ReplicaRoutingDataSource}). Only for reads whose result goes straight back to the caller:
+ * a read that a write depends on, or that fills an in-process cache, must not see replica lag.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
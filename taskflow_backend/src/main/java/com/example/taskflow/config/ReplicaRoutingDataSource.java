@@ -0,0 +1,126 @@
+package com.example.taskflow.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Sends connections of read-only transactions started within a {@link ReplicaRead} method to the replica
+ * pool and everything else to the primary. Read-only alone is not enough: Spring Data repository methods
+ * open read-only transactions of their own, including the lookups of read-modify-write paths.
+ * <p>
+ * Reads still go to the primary when the replica is lagging or unreachable, or when it has not yet replayed
+ * the calling client's latest write, so users always see their own changes. The commit time of that write
+ * travels with the client (see {@link ReadYourWritesFilter}), so it holds on whichever node serves the next
+ * request; a write transaction stamps it once it has committed. The replica's position is the latest time
+ * up to which the {@link ReplicaDataSourceConfig.ReplicaLagMonitor} has seen it replay the primary's WAL.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the read-only flag is only known once the transaction has started, after the connection is requested.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+    private static final ThreadLocal<ClientWrites> CLIENT_WRITES = new ThreadLocal<>();
+
+    private volatile boolean replicaAvailable = true;
+    // epoch ms; every write committed before it has been replayed by the replica
+    private volatile long replayedThrough;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ClientWrites client = CLIENT_WRITES.get();
+
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if(client != null) {
+                stampOnCommit(client);
+            }
+            return Route.PRIMARY;
+        }
+
+        if(REPLICA_READ.get() == null || !replicaAvailable || (client != null && client.lastWriteAt > replayedThrough)) {
+            return Route.PRIMARY;
+        }
+
+        return Route.REPLICA;
+    }
+
+    // the write is only visible to reads once it has committed, so neither is the marker stamped earlier;
+    // writes run in transactions here, and a statement outside one has no commit to hook
+    private static void stampOnCommit(ClientWrites client) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_COMMITTED) {
+                    client.written(System.currentTimeMillis());
+                }
+            }
+        });
+    }
+
+    // lastWriteAt is the client's marker from its previous requests, 0 if none; onWrite is given each new one
+    static void enterClientRequest(long lastWriteAt, LongConsumer onWrite) {
+        CLIENT_WRITES.set(new ClientWrites(lastWriteAt, onWrite));
+    }
+
+    static void exitClientRequest() {
+        CLIENT_WRITES.remove();
+    }
+
+    // returns whether the thread was already marked, for the matching exitReplicaRead
+    static boolean enterReplicaRead() {
+        boolean nested = REPLICA_READ.get() != null;
+        REPLICA_READ.set(Boolean.TRUE);
+        return nested;
+    }
+
+    static void exitReplicaRead(boolean nested) {
+        if(!nested) {
+            REPLICA_READ.remove();
+        }
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplayedThrough(long replayedThrough) {
+        this.replayedThrough = replayedThrough;
+    }
+
+    private static final class ClientWrites {
+        private final LongConsumer onWrite;
+        private long lastWriteAt;
+
+        private ClientWrites(long lastWriteAt, LongConsumer onWrite) {
+            this.lastWriteAt = lastWriteAt;
+            this.onWrite = onWrite;
+        }
+
+        private void written(long committedAt) {
+            lastWriteAt = committedAt;
+            onWrite.accept(committedAt);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskflow.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-limits repetitive log statements. Events are keyed by logger and message format, so every call
+ * site is sampled on its own: within each {@code intervalMs} window the first {@code burst} events of a
+ * key are logged, after that only every {@code sampleRate}-th one. ERROR events are never sampled.
+ * <p>
+ * Turbo filters run before the level check, so disabled statements are passed through untouched.
+ * Denied events are counted in {@link #sampledOutCount()}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private record Key(String logger, String format) {}
+
+    private static final class Window {
+        private long start;
+        private long count;
+    }
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+    private long intervalMs = 10_000;
+    private long burst = 20;
+    private long sampleRate = 100;
+    private int maxKeys = 1000;
+
+    public static long sampledOutCount() {
+        return SAMPLED_OUT.sum();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if(format == null || level == null || level.isGreaterOrEqual(Level.ERROR) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Key key = new Key(logger.getName(), format);
+        Window window = windows.get(key);
+        if(window == null) {
+            if(windows.size() >= maxKeys) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+
+        long count;
+        long now = System.currentTimeMillis();
+        synchronized (window) {
+            if(now - window.start >= intervalMs) {
+                window.start = now;
+                window.count = 0;
+            }
+            count = ++window.count;
+        }
+
+        if(count <= burst || (count - burst) % sampleRate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public void setBurst(long burst) {
+        this.burst = burst;
+    }
+
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.taskflow.config;
 
 import com.example.taskflow.enums.RoleType;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +44,8 @@ public class SecurityConfig {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // streamed responses (e.g. task export) finish on an async dispatch after the request was authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/uploads/**", "/actuator/**", "/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole(RoleType.ADMIN.name())
                         .requestMatchers("/api/v1/managers/**").hasAnyRole(RoleType.MANAGER.name())
@@ -0,0 +1,44 @@
+package com.example.taskflow.config;
+
+import com.example.taskflow.enums.ExportFormat;
+import com.example.taskflow.serializer.CodedEnumSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public WebConfig(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, ExportFormat.class, ExportFormat::parse);
+    }
+
+    /**
+     * Serves "Accept: application/cbor" with the application's Jackson setup. Enums are written as their
+     * explicit {@link com.example.taskflow.enums.CodedEnum} codes, not ordinals, so adding or reordering
+     * constants never changes what existing clients read. The converter is appended last, so JSON stays
+     * the default representation.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder
+                .factory(new CBORFactory())
+                .postConfigurer(mapper -> mapper.registerModule(CodedEnumSerializer.module()))
+                .build()));
+    }
+}
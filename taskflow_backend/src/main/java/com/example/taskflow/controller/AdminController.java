@@ -6,6 +6,8 @@ import com.example.taskflow.service.AuthService;
 import com.example.taskflow.utils.ResponseHandler;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,4 +28,19 @@ public class AdminController {
         return authService.register(request);
     }
 
+    @PostMapping("/users/{id}/revoke-tokens")
+    public ResponseEntity<ResponseHandler<Object>> revokeTokens(@PathVariable Long id) {
+        return authService.revokeAllTokens(id);
+    }
+
+    @PostMapping("/users/{id}/deactivate")
+    public ResponseEntity<ResponseHandler<Object>> deactivateUser(@PathVariable Long id, Authentication auth) {
+        return authService.setActive(id, false, Long.parseLong(auth.getName()));
+    }
+
+    @PostMapping("/users/{id}/reactivate")
+    public ResponseEntity<ResponseHandler<Object>> reactivateUser(@PathVariable Long id, Authentication auth) {
+        return authService.setActive(id, true, Long.parseLong(auth.getName()));
+    }
+
 }
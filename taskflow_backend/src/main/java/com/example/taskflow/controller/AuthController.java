@@ -6,10 +6,14 @@ import com.example.taskflow.service.AuthService;
 import com.example.taskflow.service.EmailService;
 import com.example.taskflow.utils.ResponseHandler;
 import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 
@@ -18,7 +22,7 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class AuthController {
     private final AuthService authService;
-    @Autowired private EmailService emailService;
+    @Autowired @Lazy private EmailService emailService;
 
     AuthController(AuthService authService) {
         this.authService = authService;
@@ -30,8 +34,16 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ResponseHandler<Object>> logout(HttpServletResponse response) {
-        return authService.logout(response);
+    public ResponseEntity<ResponseHandler<Object>> logout(HttpServletRequest request, HttpServletResponse response) {
+        return authService.logout(request, response);
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<ResponseHandler<Object>> logoutEverywhere(Authentication auth, HttpServletResponse response) {
+        if(auth == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ResponseHandler.error("Not logged in.", HttpStatus.UNAUTHORIZED.value()));
+        }
+        return authService.logoutEverywhere(Long.parseLong(auth.getName()), response);
     }
 
     @GetMapping("/send-email")
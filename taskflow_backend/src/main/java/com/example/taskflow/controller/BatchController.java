@@ -0,0 +1,29 @@
+package com.example.taskflow.controller;
+
+import com.example.taskflow.dto.BatchRequest;
+import com.example.taskflow.dto.BatchResponse;
+import com.example.taskflow.service.BatchService;
+import com.example.taskflow.utils.ResponseHandler;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+public class BatchController {
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    // roles are checked per operation against the endpoint it targets
+    @PostMapping
+    public ResponseEntity<ResponseHandler<BatchResponse>> execute(@Valid @RequestBody BatchRequest request, Authentication auth) {
+        return batchService.execute(request, auth);
+    }
+}
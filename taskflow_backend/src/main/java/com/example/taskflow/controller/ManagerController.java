@@ -1,14 +1,26 @@
 package com.example.taskflow.controller;
 
 import com.example.taskflow.dto.*;
+import com.example.taskflow.enums.ExportFormat;
+import com.example.taskflow.service.BurndownService;
+import com.example.taskflow.service.CycleTimeService;
+import com.example.taskflow.service.DashboardService;
 import com.example.taskflow.service.ProjectService;
+import com.example.taskflow.service.TaskArchiveService;
+import com.example.taskflow.service.TaskDependencyService;
+import com.example.taskflow.service.TaskExportService;
+import com.example.taskflow.service.TaskSearchService;
 import com.example.taskflow.service.TaskService;
 import com.example.taskflow.utils.ResponseHandler;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,10 +28,33 @@ import java.util.List;
 public class ManagerController {
     private final ProjectService projectService;
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskSearchService taskSearchService;
+    private final DashboardService dashboardService;
+    private final TaskDependencyService taskDependencyService;
+    private final CycleTimeService cycleTimeService;
+    private final BurndownService burndownService;
 
-    public ManagerController(ProjectService projectService, TaskService taskService) {
+    public ManagerController(ProjectService projectService, TaskService taskService, TaskExportService taskExportService, TaskArchiveService taskArchiveService,
+                             TaskSearchService taskSearchService, DashboardService dashboardService, TaskDependencyService taskDependencyService,
+                             CycleTimeService cycleTimeService, BurndownService burndownService) {
         this.projectService = projectService;
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskArchiveService = taskArchiveService;
+        this.taskSearchService = taskSearchService;
+        this.dashboardService = dashboardService;
+        this.taskDependencyService = taskDependencyService;
+        this.cycleTimeService = cycleTimeService;
+        this.burndownService = burndownService;
+    }
+
+    // projects, member count and task stats in one round trip
+    @GetMapping("/dashboard")
+    public ResponseEntity<ResponseHandler<DashboardResponse>> getDashboard(Authentication auth) {
+        Long managerId = Long.parseLong(auth.getName());
+        return dashboardService.getDashboard(managerId);
     }
 
     @PostMapping("/projects")
@@ -38,10 +73,11 @@ public class ManagerController {
         return projectService.getProjectById(id);
     }
 
+    // (e.g., /projects?fields=id,name)
     @GetMapping("/projects")
-    public ResponseEntity<ResponseHandler<List<ProjectResponse>>> getProjects(Authentication auth) {
+    public ResponseEntity<ResponseHandler<List<ProjectResponse>>> getProjects(@RequestParam(required = false) String fields, Authentication auth) {
         Long managerId = Long.parseLong(auth.getName());
-        return projectService.getProjects(managerId);
+        return projectService.getProjects(managerId, fields);
     }
 
     @PostMapping("/projects/{id}/members")
@@ -49,9 +85,15 @@ public class ManagerController {
         return projectService.addMembers(id, request);
     }
 
+    @DeleteMapping("/projects/{id}/members")
+    public ResponseEntity<ResponseHandler<String>> removeMembers(@PathVariable Long id, @Valid @RequestBody AddMembersRequest request) {
+        return projectService.removeMembers(id, request);
+    }
+
+    // (e.g., /projects/2/members?fields=id,name)
     @GetMapping("/projects/{id}/members")
-    public ResponseEntity<ResponseHandler<MembersResponse>> getMembers(@PathVariable Long id) {
-        return projectService.getMembersByProjectId(id);
+    public ResponseEntity<ResponseHandler<MembersResponse>> getMembers(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        return projectService.getMembersByProjectId(id, fields);
     }
 
     @PostMapping("/projects/{id}/tasks")
@@ -59,11 +101,77 @@ public class ManagerController {
         return taskService.create(id, request);
     }
 
+    // up to 1000 tasks in one insert; tasks with autoAssign go to the least loaded members
+    @PostMapping("/projects/{id}/tasks/bulk")
+    public ResponseEntity<ResponseHandler<List<TaskResponse>>> createTasks(@PathVariable Long id, @Valid @RequestBody BulkTaskRequest request) {
+        return taskService.createAll(id, request);
+    }
+
     @DeleteMapping("/projects/{projectId}/tasks/{taskId}")
     public ResponseEntity<ResponseHandler<TaskResponse>> deleteTask(@PathVariable Long projectId, @PathVariable Long taskId) {
         return taskService.delete(projectId, taskId);
     }
 
+    @PostMapping("/projects/{projectId}/tasks/{taskId}/dependencies")
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> addDependency(@PathVariable Long projectId, @PathVariable Long taskId,
+                                                                                  @Valid @RequestBody DependencyRequest request) {
+        return taskDependencyService.addDependency(projectId, taskId, request.getDependsOnId());
+    }
+
+    @DeleteMapping("/projects/{projectId}/tasks/{taskId}/dependencies/{dependsOnId}")
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> removeDependency(@PathVariable Long projectId, @PathVariable Long taskId,
+                                                                                     @PathVariable Long dependsOnId) {
+        return taskDependencyService.removeDependency(projectId, taskId, dependsOnId);
+    }
+
+    // critical path and delayed tasks, derived from due dates and dependencies
+    @GetMapping("/projects/{id}/schedule")
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> getSchedule(@PathVariable Long id) {
+        return taskDependencyService.getSchedule(id);
+    }
+
+    // p50 / p95 lead and cycle time of the project's completed tasks
+    @GetMapping("/projects/{id}/cycle-time")
+    public ResponseEntity<ResponseHandler<CycleTimeResponse>> getCycleTime(@PathVariable Long id) {
+        return cycleTimeService.getCycleTime(id);
+    }
+
+    // daily open / in-progress / done counts (e.g., /projects/2/burndown?from=2026-09-01&to=2026-09-30)
+    @GetMapping("/projects/{id}/burndown")
+    public ResponseEntity<ResponseHandler<List<BurndownPoint>>> getBurndown(@PathVariable Long id,
+                                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return burndownService.getBurndown(id, from, to);
+    }
+
+    // (e.g., /projects/2/tasks/archive?page=0&size=50)
+    @GetMapping("/projects/{id}/tasks/archive")
+    public ResponseEntity<ResponseHandler<PageResponse<ArchivedTaskResponse>>> getArchivedTasks(@PathVariable Long id,
+                                                                                               @RequestParam(defaultValue = "0") int page,
+                                                                                               @RequestParam(defaultValue = "50") int size) {
+        return taskArchiveService.getArchivedTasksByProjectId(id, page, size);
+    }
+
+    // (e.g., /projects/2/tasks/search?q=deploy serv&page=0&size=20)
+    @GetMapping("/projects/{id}/tasks/search")
+    public ResponseEntity<ResponseHandler<PageResponse<TaskResponse>>> searchProjectTasks(@PathVariable Long id, @RequestParam String q,
+                                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                                         @RequestParam(defaultValue = "20") int size,
+                                                                                         Authentication auth) {
+        Long managerId = Long.parseLong(auth.getName());
+        return taskSearchService.searchByProjectId(q, id, managerId, page, size);
+    }
+
+    // (e.g., /projects/tasks/search?q=login bug)
+    @GetMapping("/projects/tasks/search")
+    public ResponseEntity<ResponseHandler<PageResponse<TaskResponse>>> searchTasks(@RequestParam String q,
+                                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                                  Authentication auth) {
+        Long managerId = Long.parseLong(auth.getName());
+        return taskSearchService.searchByManagerId(q, managerId, page, size);
+    }
+
     @GetMapping("/projects/members")
     public ResponseEntity<ResponseHandler<Long>> totalMembersInAllProjects(Authentication auth) {
         return projectService.getTotalMembersByManagerId(Long.parseLong(auth.getName()));
@@ -74,4 +182,23 @@ public class ManagerController {
         Long managerId = Long.parseLong(auth.getName());
         return taskService.getTaskStatsByManagerId(managerId);
     }
+
+    @GetMapping("/projects/cycle-time")
+    public ResponseEntity<ResponseHandler<CycleTimeResponse>> getCycleTimeOfAllProjects(Authentication auth) {
+        Long managerId = Long.parseLong(auth.getName());
+        return cycleTimeService.getCycleTimeByManagerId(managerId);
+    }
+
+    // (e.g., /projects/tasks/export?format=csv); an unknown format is a 400 listing the allowed ones
+    @GetMapping("/projects/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(name = "format", defaultValue = "ndjson") ExportFormat exportFormat,
+                                                             Authentication auth) {
+        Long managerId = Long.parseLong(auth.getName());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(taskExportService.exportTasksByManagerId(managerId, exportFormat));
+    }
 }
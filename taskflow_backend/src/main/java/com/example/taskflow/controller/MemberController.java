@@ -1,7 +1,10 @@
 package com.example.taskflow.controller;
 
+import com.example.taskflow.dto.ArchivedTaskResponse;
+import com.example.taskflow.dto.PageResponse;
 import com.example.taskflow.dto.TaskRequest;
 import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.service.TaskArchiveService;
 import com.example.taskflow.service.TaskService;
 import com.example.taskflow.utils.ResponseHandler;
 import org.springframework.http.ResponseEntity;
@@ -14,16 +17,28 @@ import java.util.List;
 @RequestMapping("/api/v1/members")
 public class MemberController {
     private final TaskService taskService;
+    private final TaskArchiveService taskArchiveService;
 
-    public MemberController(TaskService taskService) {
+    public MemberController(TaskService taskService, TaskArchiveService taskArchiveService) {
         this.taskService = taskService;
+        this.taskArchiveService = taskArchiveService;
     }
 
 
+    // (e.g., /tasks/my?fields=id,taskTitle,status)
     @GetMapping("/tasks/my")
-    public ResponseEntity<ResponseHandler<List<TaskResponse>>> viewTasks(Authentication auth) {
+    public ResponseEntity<ResponseHandler<List<TaskResponse>>> viewTasks(@RequestParam(required = false) String fields, Authentication auth) {
         Long memberId = Long.parseLong(auth.getName());
-        return taskService.viewTasks(memberId);
+        return taskService.viewTasks(memberId, fields);
+    }
+
+    // (e.g., /tasks/archive?page=0&size=50)
+    @GetMapping("/tasks/archive")
+    public ResponseEntity<ResponseHandler<PageResponse<ArchivedTaskResponse>>> viewArchivedTasks(@RequestParam(defaultValue = "0") int page,
+                                                                                                @RequestParam(defaultValue = "50") int size,
+                                                                                                Authentication auth) {
+        Long memberId = Long.parseLong(auth.getName());
+        return taskArchiveService.getArchivedTasksByMemberId(memberId, page, size);
     }
 
     // (e.g., /tasks/2/status?status=completed)
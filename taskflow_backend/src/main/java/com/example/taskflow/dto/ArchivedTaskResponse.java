@@ -0,0 +1,25 @@
+package com.example.taskflow.dto;
+
+import com.example.taskflow.enums.PriorityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArchivedTaskResponse {
+    private Long id;
+    private String taskTitle;
+    private String description;
+    private LocalDate dueDate;
+    private PriorityType priority;
+    private Long projectId;
+    private LocalDateTime completedAt;
+    private LocalDateTime archivedAt;
+}
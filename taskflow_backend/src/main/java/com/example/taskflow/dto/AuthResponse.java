@@ -1,7 +1,9 @@
 package com.example.taskflow.dto;
 
 import com.example.taskflow.enums.RoleType;
+import com.example.taskflow.serializer.AuthResponseSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = AuthResponseSerializer.class)
 public class AuthResponse {
     private Long id;
     private String name;
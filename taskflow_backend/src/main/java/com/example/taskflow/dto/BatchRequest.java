@@ -0,0 +1,43 @@
+package com.example.taskflow.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Operations run in order against the existing endpoints. Paths and string values in bodies may
+ * reference the data of an earlier operation as {@code {{N.field}}} (e.g. {@code {{0.id}}}).
+ * With {@code transactional} set, all operations share one transaction and any failure rolls all back.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    private List<Operation> operations;
+
+    private boolean transactional;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotBlank(message = "Method is required")
+        private String method;
+
+        // e.g. /api/v1/managers/projects/{{0.id}}/tasks
+        @NotBlank(message = "Path is required")
+        private String path;
+
+        private JsonNode body;
+    }
+}
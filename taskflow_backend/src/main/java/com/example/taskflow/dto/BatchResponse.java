@@ -0,0 +1,30 @@
+package com.example.taskflow.dto;
+
+import com.example.taskflow.utils.ResponseHandler;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One result per requested operation, in request order. Operations after a failed one are not run
+ * and get status 424. {@code rolledBack} is set when a transactional batch failed, in which case the
+ * successful results were not kept either.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+    private List<Result> results;
+    private boolean rolledBack;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private int index;
+        private int status;
+        private ResponseHandler<?> body;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be created at once")
+    private List<@Valid TaskRequest> tasks;
+}
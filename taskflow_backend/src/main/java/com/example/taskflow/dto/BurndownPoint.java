@@ -0,0 +1,18 @@
+package com.example.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// task counts of a project at the end of the day; todo + inProgress is the burndown, done the burnup
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPoint {
+    private LocalDate day;
+    private int todo;
+    private int inProgress;
+    private int done;
+}
@@ -0,0 +1,18 @@
+package com.example.taskflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// hours, within about 3%; null when no completed task has the timestamps
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeResponse {
+    private long leadTimeTasks;
+    private Double leadTimeP50Hours;
+    private Double leadTimeP95Hours;
+    private long cycleTimeTasks;
+    private Double cycleTimeP50Hours;
+    private Double cycleTimeP95Hours;
+}
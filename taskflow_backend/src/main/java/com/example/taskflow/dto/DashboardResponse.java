@@ -0,0 +1,23 @@
+package com.example.taskflow.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the manager dashboard shows, fetched in one request. A section that failed or timed out
+ * is left null and named in {@code unavailable}, so the client can render the rest and retry it alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+    private List<ProjectResponse> projects;
+    private Long totalMembers;
+    private TaskStatsDTO taskStats;
+    private List<String> unavailable;
+}
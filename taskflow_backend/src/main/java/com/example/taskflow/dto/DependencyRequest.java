@@ -0,0 +1,17 @@
+package com.example.taskflow.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DependencyRequest {
+
+    @NotNull(message = "Dependency task ID is required")
+    @Positive(message = "Dependency task ID must be a positive number")
+    private Long dependsOnId;
+}
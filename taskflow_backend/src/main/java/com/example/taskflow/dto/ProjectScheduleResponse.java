@@ -0,0 +1,22 @@
+package com.example.taskflow.dto;
+
+import com.example.taskflow.utils.DependencyGraph;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Earliest finish of a project given its task dependencies: the chain of open tasks that determines
+ * it, and every task that can no longer finish by its due date because of what it depends on.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectScheduleResponse {
+    private LocalDate projectFinish;
+    private List<DependencyGraph.ScheduledTask> criticalPath;
+    private List<DependencyGraph.ScheduledTask> delayed;
+}
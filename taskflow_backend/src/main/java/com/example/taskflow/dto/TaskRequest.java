@@ -1,5 +1,6 @@
 package com.example.taskflow.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,9 +13,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class TaskRequest {
     
-    @NotNull(message = "Member ID is required")
     @Positive(message = "Member ID must be a positive number")
     private Long memberId;
+
+    // assign to the project member with the lowest open load instead of memberId
+    private boolean autoAssign;
     
     @NotBlank(message = "Task title is required")
     @Size(min = 3, max = 200, message = "Task title must be between 3 and 200 characters")
@@ -34,4 +37,10 @@ public class TaskRequest {
     @NotBlank(message = "Priority is required")
     @Pattern(regexp = "(?i)low|medium|high", message = "Priority must be LOW, MEDIUM, or HIGH")
     private String priority;
+
+    @JsonIgnore
+    @AssertTrue(message = "Member ID is required unless autoAssign is set")
+    public boolean isMemberSpecified() {
+        return autoAssign || memberId != null;
+    }
 }
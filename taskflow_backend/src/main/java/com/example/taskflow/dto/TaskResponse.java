@@ -2,7 +2,9 @@ package com.example.taskflow.dto;
 
 import com.example.taskflow.enums.PriorityType;
 import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.serializer.TaskResponseSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +15,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = TaskResponseSerializer.class)
 public class TaskResponse {
     private Long id;
     private String taskTitle;
@@ -0,0 +1,44 @@
+package com.example.taskflow.entity;
+
+import com.example.taskflow.enums.PriorityType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A completed task moved out of {@code tasks} by the archival job. Read-only history: status is always
+ * DONE, and project and member are kept as plain IDs.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tasks_archive")
+public class ArchivedTask {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    @Column(name = "assigned_to")
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    private PriorityType priority;
+
+    private String title;
+    private String description;
+}
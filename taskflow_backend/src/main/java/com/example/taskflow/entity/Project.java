@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -12,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "projects")
+@SQLRestriction("deleted_at IS NULL")
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +23,9 @@ public class Project {
     private String name;
     private String description;
 
+    // set when the project is deleted; its tasks and memberships are removed later by ProjectCleanupService
+    private LocalDateTime deletedAt;
+
     @ManyToOne
     @JoinColumn(name = "manager_id")
     private User manager;
@@ -31,7 +37,8 @@ public class Project {
     @JoinTable(
             name = "project_member",
             joinColumns = @JoinColumn(name = "project_id"),
-            inverseJoinColumns = @JoinColumn(name = "member_id")
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "member_id"})
     )
     private List<User> members;
 }
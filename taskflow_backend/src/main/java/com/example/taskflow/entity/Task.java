@@ -6,8 +6,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Data
@@ -30,8 +32,24 @@ public class Task {
 
     private LocalDate dueDate;
 
+    // set when the task moves to DONE; drives archival into tasks_archive
+    private LocalDateTime completedAt;
+
+    // lead time runs from createdAt to completedAt, cycle time from startedAt (first move to IN_PROGRESS)
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    // tasks is hash-partitioned on project_id; as the partition key it is added to the WHERE clause of
+    // Hibernate's updates and deletes so they touch one partition. Tasks never move between projects,
+    // and the association below is read-only.
+    @PartitionKey
+    @Column(name = "project_id", updatable = false)
+    private Long projectId;
+
     @ManyToOne
-    @JoinColumn(name = "project_id")
+    @JoinColumn(name = "project_id", insertable = false, updatable = false)
     private Project project;
 
     @ManyToOne
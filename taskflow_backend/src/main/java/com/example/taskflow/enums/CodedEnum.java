@@ -0,0 +1,9 @@
+package com.example.taskflow.enums;
+
+/**
+ * An enum with a stable integer code, written instead of the name in CBOR responses. Codes are part of
+ * the wire format: a constant keeps its code forever, and a removed constant's code is never reused.
+ */
+public interface CodedEnum {
+    int code();
+}
@@ -1,5 +1,23 @@
 package com.example.taskflow.enums;
 
-public enum PriorityType {
-    LOW, MEDIUM, HIGH
+public enum PriorityType implements CodedEnum {
+    LOW(1, 1), MEDIUM(2, 2), HIGH(3, 4);
+
+    private final int code;
+    // share of a member's open load, used by automatic assignment
+    private final int weight;
+
+    PriorityType(int code, int weight) {
+        this.code = code;
+        this.weight = weight;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
+
+    public int weight() {
+        return weight;
+    }
 }
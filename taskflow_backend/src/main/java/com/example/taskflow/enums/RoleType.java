@@ -1,5 +1,16 @@
 package com.example.taskflow.enums;
 
-public enum RoleType {
-    ADMIN, MANAGER, MEMBER
+public enum RoleType implements CodedEnum {
+    ADMIN(1), MANAGER(2), MEMBER(3);
+
+    private final int code;
+
+    RoleType(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
 }
@@ -1,5 +1,16 @@
 package com.example.taskflow.enums;
 
-public enum TaskStatus {
-    TODO, IN_PROGRESS, DONE
+public enum TaskStatus implements CodedEnum {
+    TODO(1), IN_PROGRESS(2), DONE(3);
+
+    private final int code;
+
+    TaskStatus(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int code() {
+        return code;
+    }
 }
@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -73,6 +75,12 @@ public class GlobalExceptionHandler {
         
         String message = String.format("Invalid value '%s' for parameter '%s'", 
                 ex.getValue(), ex.getName());
+        Class<?> requiredType = ex.getRequiredType();
+        if(requiredType != null && requiredType.isEnum()) {
+            message += ". Allowed values: " + Arrays.stream(requiredType.getEnumConstants())
+                    .map(value -> ((Enum<?>) value).name().toLowerCase())
+                    .collect(Collectors.joining(", "));
+        }
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ResponseHandler.error(message, HttpStatus.BAD_REQUEST.value()));
@@ -0,0 +1,49 @@
+package com.example.taskflow.repository;
+
+import com.example.taskflow.entity.ArchivedTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Slice<ArchivedTask> findByProjectIdOrderByCompletedAtDescIdDesc(Long projectId, Pageable pageable);
+
+    Slice<ArchivedTask> findByMemberIdOrderByCompletedAtDescIdDesc(Long memberId, Pageable pageable);
+
+    // moves one batch in a single statement; SKIP LOCKED lets concurrent runs on other nodes take disjoint batches
+    @Modifying
+    @Query(value = """
+        WITH moved AS (
+            DELETE FROM tasks
+            WHERE (id, project_id) IN (
+                SELECT id, project_id FROM tasks
+                WHERE status = 'DONE'
+                AND completed_at < :cutoff
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, project_id, assigned_to, completed_at, created_at, started_at, due_date, priority, title, description
+        )
+        INSERT INTO tasks_archive (id, project_id, assigned_to, completed_at, archived_at, created_at, started_at, due_date, priority, title, description)
+        SELECT id, project_id, assigned_to, completed_at, now(), created_at, started_at, due_date, priority, title, description
+        FROM moved
+        """, nativeQuery = true)
+    int archiveCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM tasks_archive
+        WHERE id IN (
+            SELECT id FROM tasks_archive
+            WHERE project_id = :projectId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+}
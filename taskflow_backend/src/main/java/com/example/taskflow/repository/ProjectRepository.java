@@ -2,16 +2,163 @@ package com.example.taskflow.repository;
 
 import com.example.taskflow.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    List<Project> findByManager_Id(Long managerId);
+
     @Query(value = """
         SELECT COUNT(DISTINCT pm.member_id)
         FROM project_member pm
         JOIN projects p ON p.id = pm.project_id
         WHERE p.manager_id = :managerId
+        AND p.deleted_at IS NULL
     """, nativeQuery = true)
     long countMembersByManagerId(@Param("managerId") Long managerId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM project_member WHERE project_id = :projectId AND member_id = :memberId)", nativeQuery = true)
+    boolean isMember(@Param("projectId") Long projectId, @Param("memberId") Long memberId);
+
+    // the given IDs that are members of the project
+    @Query(value = "SELECT member_id FROM project_member WHERE project_id = :projectId AND member_id IN (:memberIds)", nativeQuery = true)
+    List<Long> findMemberIds(@Param("projectId") Long projectId, @Param("memberIds") Collection<Long> memberIds);
+
+    // inserts only the missing (project, member) pairs; ids that are unknown or already members are skipped
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO project_member (project_id, member_id)
+        SELECT :projectId, u.id FROM users u
+        WHERE u.id IN (:memberIds)
+        AND NOT EXISTS (
+            SELECT 1 FROM project_member pm
+            WHERE pm.project_id = :projectId
+            AND pm.member_id = u.id
+        )
+        ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int addMembers(@Param("projectId") Long projectId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM project_member WHERE project_id = :projectId AND member_id IN (:memberIds)", nativeQuery = true)
+    int removeMembers(@Param("projectId") Long projectId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE projects SET deleted_at = :deletedAt WHERE id = :projectId AND deleted_at IS NULL", nativeQuery = true)
+    int markDeleted(@Param("projectId") Long projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "SELECT id FROM projects WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedProjectIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM project_member
+        WHERE project_id = :projectId
+        AND member_id IN (
+            SELECT member_id FROM project_member
+            WHERE project_id = :projectId
+            LIMIT :limit
+        )
+    """, nativeQuery = true)
+    int deleteMembershipsChunk(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :projectId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeleted(@Param("projectId") Long projectId);
+
+    // [day, todo, in_progress, done] from the latest row on or before :from through :to
+    @Query(value = """
+        SELECT day, todo, in_progress, done
+        FROM project_daily_counts
+        WHERE project_id = :projectId
+        AND day >= COALESCE((SELECT MAX(day) FROM project_daily_counts WHERE project_id = :projectId AND day <= :from), :from)
+        AND day <= :to
+        ORDER BY day
+    """, nativeQuery = true)
+    List<Object[]> findDailyCounts(@Param("projectId") Long projectId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // joins the caller's transaction, so the delta commits or rolls back with the status change it records
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO project_daily_deltas (project_id, day, todo, in_progress, done)
+        VALUES (:projectId, :day, :todo, :inProgress, :done)
+    """, nativeQuery = true)
+    int insertDailyDelta(@Param("projectId") Long projectId, @Param("day") LocalDate day, @Param("todo") int todo,
+                         @Param("inProgress") int inProgress, @Param("done") int done);
+
+    // deletes the deltas committed so far and returns their sums as [project_id, day, todo, in_progress, done];
+    // deltas committing meanwhile are not visible to the DELETE and stay for the next call
+    @Query(value = """
+        WITH taken AS (
+            DELETE FROM project_daily_deltas
+            RETURNING project_id, day, todo, in_progress, done
+        )
+        SELECT project_id, day, CAST(SUM(todo) AS int), CAST(SUM(in_progress) AS int), CAST(SUM(done) AS int)
+        FROM taken
+        GROUP BY project_id, day
+    """, nativeQuery = true)
+    List<Object[]> takeDailyDeltas();
+
+    // serializes daily count flushes across nodes until the transaction ends
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('project_daily_counts'))) l", nativeQuery = true)
+    int lockDailyCounts();
+
+    // opens a row for each (project, day) that has none, carrying the counts of the project's previous row;
+    // the arrays are parallel, and projects that no longer exist are skipped
+    @Modifying
+    @Query(value = """
+        INSERT INTO project_daily_counts (project_id, day, todo, in_progress, done)
+        SELECT d.project_id, d.day, COALESCE(prev.todo, 0), COALESCE(prev.in_progress, 0), COALESCE(prev.done, 0)
+        FROM unnest(CAST(:projectIds AS bigint[]), CAST(:days AS date[])) AS d(project_id, day)
+        JOIN projects p ON p.id = d.project_id
+        LEFT JOIN LATERAL (
+            SELECT c.todo, c.in_progress, c.done
+            FROM project_daily_counts c
+            WHERE c.project_id = d.project_id
+            AND c.day < d.day
+            ORDER BY c.day DESC
+            LIMIT 1
+        ) prev ON true
+        ON CONFLICT (project_id, day) DO NOTHING
+    """, nativeQuery = true)
+    int openDailyCounts(@Param("projectIds") Long[] projectIds, @Param("days") LocalDate[] days);
+
+    // adds each delta to its day and every later day of the project, which already carry the earlier counts
+    @Modifying
+    @Query(value = """
+        UPDATE project_daily_counts c
+        SET todo = c.todo + s.todo, in_progress = c.in_progress + s.in_progress, done = c.done + s.done
+        FROM (
+            SELECT c2.project_id, c2.day, SUM(d.todo) AS todo, SUM(d.in_progress) AS in_progress, SUM(d.done) AS done
+            FROM project_daily_counts c2
+            JOIN unnest(CAST(:projectIds AS bigint[]), CAST(:days AS date[]), CAST(:todo AS int[]),
+                        CAST(:inProgress AS int[]), CAST(:done AS int[])) AS d(project_id, day, todo, in_progress, done)
+            ON c2.project_id = d.project_id AND c2.day >= d.day
+            GROUP BY c2.project_id, c2.day
+        ) s
+        WHERE c.project_id = s.project_id
+        AND c.day = s.day
+    """, nativeQuery = true)
+    int addDailyCounts(@Param("projectIds") Long[] projectIds, @Param("days") LocalDate[] days, @Param("todo") Integer[] todo,
+                       @Param("inProgress") Integer[] inProgress, @Param("done") Integer[] done);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_daily_counts WHERE project_id = :projectId", nativeQuery = true)
+    int deleteDailyCounts(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_daily_deltas WHERE project_id = :projectId", nativeQuery = true)
+    int deleteDailyDeltas(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,65 @@
+package com.example.taskflow.repository;
+
+import com.example.taskflow.dto.AuthResponse;
+import com.example.taskflow.dto.ProjectResponse;
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.utils.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * List queries for {@code fields=} requests. The JPQL SELECT list is built from the requested fields, so
+ * only those columns (and only the joins they need) are read.
+ */
+@Repository
+public class SparseProjectionRepository {
+
+    public static final SparseFields<TaskResponse> TASK_FIELDS = new SparseFields<>(TaskResponse::new)
+            .field("id", "t.id", TaskResponse::getId, TaskResponse::setId)
+            .field("taskTitle", "t.title", TaskResponse::getTaskTitle, TaskResponse::setTaskTitle)
+            .field("description", "t.description", TaskResponse::getDescription, TaskResponse::setDescription)
+            .field("dueDate", "t.dueDate", TaskResponse::getDueDate, TaskResponse::setDueDate)
+            .field("status", "t.status", TaskResponse::getStatus, TaskResponse::setStatus)
+            .field("priority", "t.priority", TaskResponse::getPriority, TaskResponse::setPriority)
+            .field("projectName", "t.project.name", TaskResponse::getProjectName, TaskResponse::setProjectName)
+            .field("assignedTo", "t.member.name", TaskResponse::getAssignedTo, TaskResponse::setAssignedTo);
+
+    public static final SparseFields<ProjectResponse> PROJECT_FIELDS = new SparseFields<>(ProjectResponse::new)
+            .field("id", "p.id", ProjectResponse::getId, ProjectResponse::setId)
+            .field("name", "p.name", ProjectResponse::getName, ProjectResponse::setName)
+            .field("description", "p.description", ProjectResponse::getDescription, ProjectResponse::setDescription)
+            .field("created_by", "p.manager.name", ProjectResponse::getCreated_by, ProjectResponse::setCreated_by);
+
+    public static final SparseFields<AuthResponse> MEMBER_FIELDS = new SparseFields<>(AuthResponse::new)
+            .field("id", "u.id", AuthResponse::getId, AuthResponse::setId)
+            .field("name", "u.name", AuthResponse::getName, AuthResponse::setName)
+            .field("email", "u.email", AuthResponse::getEmail, AuthResponse::setEmail);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<TaskResponse> findTasksByMemberId(Long memberId, List<SparseFields.Field<TaskResponse>> selection) {
+        return select(TASK_FIELDS, selection, "FROM Task t WHERE t.member.id = :id AND t.project.deletedAt IS NULL", memberId);
+    }
+
+    // deleted projects are filtered by Project's @SQLRestriction
+    public List<ProjectResponse> findProjectsByManagerId(Long managerId, List<SparseFields.Field<ProjectResponse>> selection) {
+        return select(PROJECT_FIELDS, selection, "FROM Project p WHERE p.manager.id = :id", managerId);
+    }
+
+    public List<AuthResponse> findMembersByProjectId(Long projectId, List<SparseFields.Field<AuthResponse>> selection) {
+        return select(MEMBER_FIELDS, selection, "FROM Project p JOIN p.members u WHERE p.id = :id", projectId);
+    }
+
+    private <T> List<T> select(SparseFields<T> fields, List<SparseFields.Field<T>> selection, String from, Long id) {
+        Query query = entityManager.createQuery("SELECT " + fields.selectClause(selection) + " " + from);
+        query.setParameter("id", id);
+
+        List<?> rows = query.getResultList();
+        return rows.stream().map(row -> fields.fromRow(selection, row)).toList();
+    }
+}
@@ -2,19 +2,26 @@ package com.example.taskflow.repository;
 
 import com.example.taskflow.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    Optional<Task> findByIdAndProject_Id(Long id, Long projectId);
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.projectId = :projectId AND t.project.deletedAt IS NULL")
+    Optional<Task> findByIdAndProject_Id(@Param("id") Long id, @Param("projectId") Long projectId);
 
-    Optional<Task> findByIdAndMember_Id(Long id, Long projectId);
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.member.id = :memberId AND t.project.deletedAt IS NULL")
+    Optional<Task> findByIdAndMember_Id(@Param("id") Long id, @Param("memberId") Long memberId);
 
-    List<Task> findByMember_Id(Long memberId);
+    @Query("SELECT t FROM Task t WHERE t.member.id = :memberId AND t.project.deletedAt IS NULL")
+    List<Task> findByMember_Id(@Param("memberId") Long memberId);
 
     @Query(value = """
         SELECT
@@ -26,6 +33,232 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         FROM tasks t
         JOIN projects p ON t.project_id = p.id
         WHERE p.manager_id = :managerId
+        AND p.deleted_at IS NULL
         """, nativeQuery = true)
     List<Object[]> findTaskStatsByManagerId(@Param("managerId") Long managerId);
+
+    // :query is a to_tsquery expression built by TaskSearchService; rows come back as
+    // id, title, description, due_date, status, priority, project_name, member_name.
+    // Each of the manager's projects probes the (project_id, search_vector) GIN index on its own partition
+    // (OFFSET 0 keeps the planner from flattening the lateral into one scan over every match), and
+    // project / member names are only joined for the page that survives the LIMIT.
+    @Query(value = """
+        SELECT m.id, m.title, m.description, m.due_date, m.status, m.priority, p.name, u.name
+        FROM (
+            SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority, t.project_id, t.assigned_to, t.rank
+            FROM projects p
+            CROSS JOIN to_tsquery('english', :query) q
+            CROSS JOIN LATERAL (
+                SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority, t.project_id, t.assigned_to,
+                       ts_rank_cd(t.search_vector, q) AS rank
+                FROM tasks t
+                WHERE t.project_id = p.id
+                AND t.search_vector @@ q
+                OFFSET 0
+            ) t
+            WHERE p.manager_id = :managerId
+            AND p.deleted_at IS NULL
+            ORDER BY t.rank DESC, t.id DESC
+            LIMIT :limit OFFSET :offset
+        ) m
+        JOIN projects p ON p.id = m.project_id
+        LEFT JOIN users u ON u.id = m.assigned_to
+        ORDER BY m.rank DESC, m.id DESC
+        """, nativeQuery = true)
+    List<Object[]> searchByManagerId(@Param("query") String query, @Param("managerId") Long managerId,
+                                     @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(value = """
+        SELECT m.id, m.title, m.description, m.due_date, m.status, m.priority, p.name, u.name
+        FROM (
+            SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority, t.project_id, t.assigned_to,
+                   ts_rank_cd(t.search_vector, q) AS rank
+            FROM tasks t
+            CROSS JOIN to_tsquery('english', :query) q
+            WHERE t.project_id = :projectId
+            AND t.search_vector @@ q
+            ORDER BY rank DESC, t.id DESC
+            LIMIT :limit OFFSET :offset
+        ) m
+        JOIN projects p ON p.id = m.project_id
+        LEFT JOIN users u ON u.id = m.assigned_to
+        WHERE p.manager_id = :managerId
+        AND p.deleted_at IS NULL
+        ORDER BY m.rank DESC, m.id DESC
+        """, nativeQuery = true)
+    List<Object[]> searchByProjectId(@Param("query") String query, @Param("projectId") Long projectId, @Param("managerId") Long managerId,
+                                     @Param("limit") int limit, @Param("offset") int offset);
+
+    // open tasks with a reminder or escalation still to send; rows come back as
+    // id, project_id, due_date, reminder_pending
+    @Query(value = """
+        SELECT t.id, t.project_id, t.due_date, t.reminder_sent_at IS NULL
+        FROM tasks t
+        WHERE t.due_date BETWEEN :from AND :until
+        AND t.status <> 'DONE'
+        AND t.escalated_at IS NULL
+        """, nativeQuery = true)
+    List<Object[]> findPendingReminders(@Param("from") LocalDate from, @Param("until") LocalDate until);
+
+    // Claims due-soon reminders: only rows this statement flips from NULL come back, so concurrent nodes
+    // never send the same reminder. Tasks already overdue are left to the escalation. Rows come back as id, title, due_date, project_name, member_email, member_name.
+    @Query(value = """
+        WITH claimed AS (
+            UPDATE tasks SET reminder_sent_at = now()
+            WHERE id IN (:ids)
+            AND project_id IN (:projectIds)
+            AND reminder_sent_at IS NULL
+            AND status <> 'DONE'
+            AND due_date >= CURRENT_DATE
+            RETURNING id, title, due_date, project_id, assigned_to
+        )
+        SELECT c.id, c.title, c.due_date, p.name, u.email, u.name
+        FROM claimed c
+        JOIN projects p ON p.id = c.project_id
+        JOIN users u ON u.id = c.assigned_to
+        WHERE p.deleted_at IS NULL
+        """, nativeQuery = true)
+    List<Object[]> claimReminders(@Param("ids") Collection<Long> ids, @Param("projectIds") Collection<Long> projectIds);
+
+    // Same as claimReminders for overdue tasks, addressed to the project manager.
+    // Rows come back as id, title, due_date, project_name, manager_email, manager_name, member_name.
+    @Query(value = """
+        WITH claimed AS (
+            UPDATE tasks SET escalated_at = now(), reminder_sent_at = COALESCE(reminder_sent_at, now())
+            WHERE id IN (:ids)
+            AND project_id IN (:projectIds)
+            AND escalated_at IS NULL
+            AND status <> 'DONE'
+            AND due_date < CURRENT_DATE
+            RETURNING id, title, due_date, project_id, assigned_to
+        )
+        SELECT c.id, c.title, c.due_date, p.name, m.email, m.name, u.name
+        FROM claimed c
+        JOIN projects p ON p.id = c.project_id
+        JOIN users m ON m.id = p.manager_id
+        LEFT JOIN users u ON u.id = c.assigned_to
+        WHERE p.deleted_at IS NULL
+        """, nativeQuery = true)
+    List<Object[]> claimEscalations(@Param("ids") Collection<Long> ids, @Param("projectIds") Collection<Long> projectIds);
+
+    // hands claims back when the digest could not be sent, so the next horizon load retries them
+    @Modifying
+    @Query(value = "UPDATE tasks SET reminder_sent_at = NULL WHERE id IN (:ids) AND project_id IN (:projectIds)", nativeQuery = true)
+    int releaseReminders(@Param("ids") Collection<Long> ids, @Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query(value = "UPDATE tasks SET escalated_at = NULL WHERE id IN (:ids) AND project_id IN (:projectIds)", nativeQuery = true)
+    int releaseEscalations(@Param("ids") Collection<Long> ids, @Param("projectIds") Collection<Long> projectIds);
+
+    // project_id is repeated on the outer DELETE so both sides prune to the project's partition
+    @Modifying
+    @Query(value = """
+        DELETE FROM tasks
+        WHERE project_id = :projectId
+        AND id IN (
+            SELECT id FROM tasks
+            WHERE project_id = :projectId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    // ids for insertAll, drawn up front so each inserted row is known without relying on RETURNING order
+    @Query(value = "SELECT nextval('tasks_id_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextIds(@Param("count") int count);
+
+    // one statement for a whole bulk creation; the arrays are parallel, one element per task
+    @Modifying
+    @Query(value = """
+        INSERT INTO tasks (id, title, description, status, priority, due_date, completed_at, started_at, created_at, project_id, assigned_to)
+        SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date, t.completed_at, t.started_at, :createdAt, :projectId, t.assigned_to
+        FROM unnest(CAST(:ids AS bigint[]), CAST(:titles AS text[]), CAST(:descriptions AS text[]), CAST(:statuses AS text[]),
+                    CAST(:priorities AS text[]), CAST(:dueDates AS date[]), CAST(:completedAts AS timestamp[]), CAST(:startedAts AS timestamp[]),
+                    CAST(:memberIds AS bigint[]))
+            AS t(id, title, description, status, priority, due_date, completed_at, started_at, assigned_to)
+        """, nativeQuery = true)
+    int insertAll(@Param("projectId") Long projectId, @Param("createdAt") LocalDateTime createdAt, @Param("ids") Long[] ids, @Param("titles") String[] titles,
+                  @Param("descriptions") String[] descriptions, @Param("statuses") String[] statuses, @Param("priorities") String[] priorities,
+                  @Param("dueDates") LocalDate[] dueDates, @Param("completedAts") LocalDateTime[] completedAts,
+                  @Param("startedAts") LocalDateTime[] startedAts, @Param("memberIds") Long[] memberIds);
+
+    // appends TaskTransitionLog's buffered status changes in one statement; the arrays are parallel
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_status_transitions (task_id, project_id, changed_by, changed_at, from_status, to_status)
+        SELECT * FROM unnest(CAST(:taskIds AS bigint[]), CAST(:projectIds AS bigint[]), CAST(:changedBy AS bigint[]),
+                             CAST(:changedAt AS timestamp[]), CAST(:fromStatuses AS text[]), CAST(:toStatuses AS text[]))
+        """, nativeQuery = true)
+    int insertTransitions(@Param("taskIds") Long[] taskIds, @Param("projectIds") Long[] projectIds, @Param("changedBy") Long[] changedBy,
+                          @Param("changedAt") LocalDateTime[] changedAt, @Param("fromStatuses") String[] fromStatuses,
+                          @Param("toStatuses") String[] toStatuses);
+
+    // lead and cycle time in seconds of the project's completed tasks, live and archived; cycle_time is
+    // NULL for tasks that were never IN_PROGRESS. Rows come back as lead_time, cycle_time
+    @Query(value = """
+        SELECT CAST(EXTRACT(EPOCH FROM t.completed_at - t.created_at) AS bigint),
+               CAST(EXTRACT(EPOCH FROM t.completed_at - t.started_at) AS bigint)
+        FROM tasks t
+        WHERE t.project_id = :projectId
+        AND t.status = 'DONE'
+        AND t.created_at IS NOT NULL
+        AND t.completed_at IS NOT NULL
+        UNION ALL
+        SELECT CAST(EXTRACT(EPOCH FROM a.completed_at - a.created_at) AS bigint),
+               CAST(EXTRACT(EPOCH FROM a.completed_at - a.started_at) AS bigint)
+        FROM tasks_archive a
+        WHERE a.project_id = :projectId
+        AND a.created_at IS NOT NULL
+        """, nativeQuery = true)
+    List<Object[]> findCompletionTimesByProjectId(@Param("projectId") Long projectId);
+
+    // id, title, due_date, status of every task in the project, for the dependency graph
+    @Query(value = """
+        SELECT t.id, t.title, t.due_date, t.status
+        FROM tasks t
+        WHERE t.project_id = :projectId
+        """, nativeQuery = true)
+    List<Object[]> findDependencyNodesByProjectId(@Param("projectId") Long projectId);
+
+    // task_id, depends_on_id
+    @Query(value = """
+        SELECT d.task_id, d.depends_on_id
+        FROM task_dependencies d
+        WHERE d.project_id = :projectId
+        """, nativeQuery = true)
+    List<Object[]> findDependencyEdgesByProjectId(@Param("projectId") Long projectId);
+
+    // serializes dependency changes of one project across nodes until the transaction ends; the key is hashed
+    // from the id, so any id fits and a collision only makes two projects wait for each other
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('task_dependencies:' || CAST(:projectId AS bigint)))) l", nativeQuery = true)
+    int lockDependencies(@Param("projectId") Long projectId);
+
+    // true if dependsOnId already depends on taskId, directly or transitively
+    @Query(value = """
+        WITH RECURSIVE upstream(id) AS (
+            SELECT d.depends_on_id FROM task_dependencies d
+            WHERE d.project_id = :projectId AND d.task_id = :dependsOnId
+            UNION
+            SELECT d.depends_on_id FROM task_dependencies d
+            JOIN upstream u ON d.task_id = u.id
+            WHERE d.project_id = :projectId
+        )
+        SELECT EXISTS (SELECT 1 FROM upstream WHERE id = :taskId)
+        """, nativeQuery = true)
+    boolean dependencyPathExists(@Param("projectId") Long projectId, @Param("taskId") Long taskId, @Param("dependsOnId") Long dependsOnId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_dependencies (project_id, task_id, depends_on_id)
+        VALUES (:projectId, :taskId, :dependsOnId)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertDependency(@Param("projectId") Long projectId, @Param("taskId") Long taskId, @Param("dependsOnId") Long dependsOnId);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM task_dependencies
+        WHERE project_id = :projectId AND task_id = :taskId AND depends_on_id = :dependsOnId
+        """, nativeQuery = true)
+    int deleteDependency(@Param("projectId") Long projectId, @Param("taskId") Long taskId, @Param("dependsOnId") Long dependsOnId);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    boolean existsByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT u.id FROM users u WHERE u.status = false", nativeQuery = true)
+    List<Long> findInactiveUserIds();
+
     @Query(value = """
         SELECT * FROM users u
-        WHERE LOWER(u.name) LIKE LOWER(CONCAT(:query, '%'))
+        WHERE LOWER(u.name) LIKE LOWER(:prefix)
         AND u.role = 'MEMBER'
         AND u.status = true
         AND u.id NOT IN (
@@ -25,7 +31,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
         )
         ORDER BY u.id ASC LIMIT 10
 """, nativeQuery = true)
-    List<User> searchAvailableMembers(@Param("query") String query, @Param("projectId") Long projectId);
+    List<User> searchAvailableMembers(@Param("prefix") String prefix, @Param("projectId") Long projectId);
 
     @Query(value = """
         SELECT * FROM users u
@@ -42,4 +48,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
         ORDER BY u.id
 """, nativeQuery = true)
     List<User> findAvailableForTask(@Param("projectId") Long projectId);
+
+    // open tasks per active member and priority, for the assignment heap; rows come back as
+    // member_id, priority, open_tasks (priority is NULL and open_tasks 0 for members without open tasks)
+    @Query(value = """
+        SELECT pm.member_id, t.priority, COUNT(t.id)
+        FROM project_member pm
+        JOIN users u ON u.id = pm.member_id
+        LEFT JOIN tasks t ON t.project_id = pm.project_id
+            AND t.assigned_to = pm.member_id
+            AND t.status IN ('TODO', 'IN_PROGRESS')
+        WHERE pm.project_id = :projectId
+        AND u.role = 'MEMBER'
+        AND u.status = true
+        GROUP BY pm.member_id, t.priority
+""", nativeQuery = true)
+    List<Object[]> findOpenLoadByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,58 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.dto.AuthResponse;
+import com.example.taskflow.enums.RoleType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written equivalent of the reflective serializer for {@link AuthResponse}: same field names
+ * and order, null fields skipped.
+ */
+public class AuthResponseSerializer extends StdSerializer<AuthResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString TOKEN = new SerializedString("token");
+    private static final SerializableString ROLE = new SerializedString("role");
+
+    private static final SerializableString[] ROLE_NAMES = SerializerSupport.enumNames(RoleType.class);
+
+    public AuthResponseSerializer() {
+        super(AuthResponse.class);
+    }
+
+    @Override
+    public void serialize(AuthResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        if (value.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+        }
+        if (value.getName() != null) {
+            gen.writeFieldName(NAME);
+            gen.writeString(value.getName());
+        }
+        if (value.getEmail() != null) {
+            gen.writeFieldName(EMAIL);
+            gen.writeString(value.getEmail());
+        }
+        if (value.getToken() != null) {
+            gen.writeFieldName(TOKEN);
+            gen.writeString(value.getToken());
+        }
+        if (value.getRole() != null) {
+            gen.writeFieldName(ROLE);
+            SerializerSupport.writeEnum(gen, ROLE_NAMES, value.getRole());
+        }
+
+        gen.writeEndObject();
+    }
+}
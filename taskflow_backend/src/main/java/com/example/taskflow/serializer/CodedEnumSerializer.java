@@ -0,0 +1,41 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.enums.CodedEnum;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.RoleType;
+import com.example.taskflow.enums.TaskStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link CodedEnum} the way the hand-written serializers do, for the responses still serialized
+ * reflectively: the code in CBOR, the name otherwise.
+ */
+public class CodedEnumSerializer<E extends Enum<E> & CodedEnum> extends StdSerializer<E> {
+
+    private final SerializableString[] names;
+
+    public CodedEnumSerializer(Class<E> type) {
+        super(type);
+        this.names = SerializerSupport.enumNames(type);
+    }
+
+    @Override
+    public void serialize(E value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        SerializerSupport.writeEnum(gen, names, value);
+    }
+
+    // every coded enum, for the CBOR ObjectMapper (registered in WebConfig)
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("CodedEnums");
+        module.addSerializer(TaskStatus.class, new CodedEnumSerializer<>(TaskStatus.class));
+        module.addSerializer(PriorityType.class, new CodedEnumSerializer<>(PriorityType.class));
+        module.addSerializer(RoleType.class, new CodedEnumSerializer<>(RoleType.class));
+        return module;
+    }
+}
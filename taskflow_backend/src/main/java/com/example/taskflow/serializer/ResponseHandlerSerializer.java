@@ -0,0 +1,60 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.utils.ResponseHandler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the response envelope field by field instead of going through reflective bean introspection.
+ * The payload is handed to the generator as-is, so list payloads are streamed element by element
+ * straight into the response body.
+ */
+@SuppressWarnings("rawtypes")
+public class ResponseHandlerSerializer extends StdSerializer<ResponseHandler> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString STATUS_CODE = new SerializedString("statusCode");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    public ResponseHandlerSerializer() {
+        super(ResponseHandler.class);
+    }
+
+    @Override
+    public void serialize(ResponseHandler value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(value.getMessage());
+
+        gen.writeFieldName(DATA);
+        if (value.getData() == null) {
+            gen.writeNull();
+        } else {
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+
+        gen.writeFieldName(STATUS_CODE);
+        gen.writeNumber(value.getStatusCode());
+
+        gen.writeFieldName(TIMESTAMP);
+        if (value.getTimestamp() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value.getTimestamp()));
+        }
+
+        gen.writeEndObject();
+    }
+}
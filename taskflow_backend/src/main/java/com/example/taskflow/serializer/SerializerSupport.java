@@ -0,0 +1,60 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.enums.CodedEnum;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Allocation-free helpers shared by the hand-written serializers.
+ */
+final class SerializerSupport {
+
+    private SerializerSupport() {
+    }
+
+    static <E extends Enum<E>> SerializableString[] enumNames(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        SerializableString[] names = new SerializableString[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return names;
+    }
+
+    // by name in JSON; CBOR gets the constant's explicit code, never the ordinal, which would tie clients to the
+    // declaration order
+    static <E extends Enum<E> & CodedEnum> void writeEnum(JsonGenerator gen, SerializableString[] names, E value) throws IOException {
+        if (gen instanceof CBORGenerator) {
+            gen.writeNumber(value.code());
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    // ISO-8601 "yyyy-MM-dd", written without building an intermediate String
+    static void writeLocalDate(JsonGenerator gen, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(date.toString());
+            return;
+        }
+
+        char[] buffer = new char[10];
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        buffer[5] = (char) ('0' + date.getMonthValue() / 10);
+        buffer[6] = (char) ('0' + date.getMonthValue() % 10);
+        buffer[7] = '-';
+        buffer[8] = (char) ('0' + date.getDayOfMonth() / 10);
+        buffer[9] = (char) ('0' + date.getDayOfMonth() % 10);
+        gen.writeString(buffer, 0, buffer.length);
+    }
+}
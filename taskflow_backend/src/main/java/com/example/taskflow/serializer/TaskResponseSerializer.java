@@ -0,0 +1,75 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written equivalent of the reflective serializer for {@link TaskResponse}: same field names
+ * and order, null fields skipped.
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TASK_TITLE = new SerializedString("taskTitle");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString PROJECT_NAME = new SerializedString("projectName");
+    private static final SerializableString ASSIGNED_TO = new SerializedString("assignedTo");
+
+    private static final SerializableString[] STATUS_NAMES = SerializerSupport.enumNames(TaskStatus.class);
+    private static final SerializableString[] PRIORITY_NAMES = SerializerSupport.enumNames(PriorityType.class);
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        if (value.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+        }
+        if (value.getTaskTitle() != null) {
+            gen.writeFieldName(TASK_TITLE);
+            gen.writeString(value.getTaskTitle());
+        }
+        if (value.getDescription() != null) {
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(value.getDescription());
+        }
+        if (value.getDueDate() != null) {
+            gen.writeFieldName(DUE_DATE);
+            SerializerSupport.writeLocalDate(gen, value.getDueDate());
+        }
+        if (value.getStatus() != null) {
+            gen.writeFieldName(STATUS);
+            SerializerSupport.writeEnum(gen, STATUS_NAMES, value.getStatus());
+        }
+        if (value.getPriority() != null) {
+            gen.writeFieldName(PRIORITY);
+            SerializerSupport.writeEnum(gen, PRIORITY_NAMES, value.getPriority());
+        }
+        if (value.getProjectName() != null) {
+            gen.writeFieldName(PROJECT_NAME);
+            gen.writeString(value.getProjectName());
+        }
+        if (value.getAssignedTo() != null) {
+            gen.writeFieldName(ASSIGNED_TO);
+            gen.writeString(value.getAssignedTo());
+        }
+
+        gen.writeEndObject();
+    }
+}
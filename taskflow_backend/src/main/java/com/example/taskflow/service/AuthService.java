@@ -9,7 +9,9 @@ import com.example.taskflow.enums.TaskStatus;
 import com.example.taskflow.repository.UserRepository;
 import com.example.taskflow.utils.JwtAuth;
 import com.example.taskflow.utils.ResponseHandler;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,11 +32,16 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtAuth jwtAuth;
+    private final TokenRevocationService tokenRevocationService;
+    private final InactiveUserRegistry inactiveUserRegistry;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtAuth jwtAuth) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtAuth jwtAuth, TokenRevocationService tokenRevocationService,
+                       InactiveUserRegistry inactiveUserRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtAuth = jwtAuth;
+        this.tokenRevocationService = tokenRevocationService;
+        this.inactiveUserRegistry = inactiveUserRegistry;
     }
 
     public ResponseEntity<ResponseHandler<AuthResponse>> register(RegisterRequest request) {
@@ -113,18 +120,73 @@ public class AuthService {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("User logged in successfully.", authResponse, HttpStatus.OK.value()));
     }
 
-    public ResponseEntity<ResponseHandler<Object>> logout(HttpServletResponse response) {
+    public ResponseEntity<ResponseHandler<Object>> logout(HttpServletRequest request, HttpServletResponse response) {
         logger.info("Logout request received");
-        
+
+        String token = jwtAuth.resolveToken(request);
+        Claims claims = token != null ? jwtAuth.parseClaims(token) : null;
+
+        if(claims != null) {
+            tokenRevocationService.revokeToken(claims);
+        }
+
+        clearTokenCookie(response);
+
+        logger.info("Logout successful");
+        return ResponseEntity.ok(ResponseHandler.success("Logged out successfully", null, HttpStatus.OK.value()));
+    }
+
+    public ResponseEntity<ResponseHandler<Object>> logoutEverywhere(Long userId, HttpServletResponse response) {
+        logger.info("Logout everywhere request received for user ID: {}", userId);
+
+        tokenRevocationService.revokeAllForUser(userId);
+        clearTokenCookie(response);
+
+        logger.info("Logout everywhere successful for user ID: {}", userId);
+        return ResponseEntity.ok(ResponseHandler.success("Logged out from all sessions", null, HttpStatus.OK.value()));
+    }
+
+    public ResponseEntity<ResponseHandler<Object>> revokeAllTokens(Long userId) {
+        logger.info("Revoking all tokens for user ID: {}", userId);
+
+        if(!userRepository.existsById(userId)) {
+            logger.warn("Token revocation failed - user not found: {}", userId);
+            return ResponseHandler.notFound("User not found.");
+        }
+
+        tokenRevocationService.revokeAllForUser(userId);
+        return ResponseEntity.ok(ResponseHandler.success("All sessions revoked.", null, HttpStatus.OK.value()));
+    }
+
+    // existing tokens stop working on the next request and work again after reactivation
+    public ResponseEntity<ResponseHandler<Object>> setActive(Long userId, boolean active, Long adminId) {
+        logger.info("{} user ID: {} by admin ID: {}", active ? "Reactivating" : "Deactivating", userId, adminId);
+
+        if(!active && userId.equals(adminId)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error("Admins cannot deactivate themselves.", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        Optional<User> optUser = userRepository.findById(userId);
+        if(optUser.isEmpty()) {
+            logger.warn("Status change failed - user not found: {}", userId);
+            return ResponseHandler.notFound("User not found.");
+        }
+
+        User user = optUser.get();
+        user.setStatus(active);
+        userRepository.save(user);
+        inactiveUserRegistry.setInactive(userId, !active);
+
+        return ResponseEntity.ok(ResponseHandler.success(active ? "User reactivated." : "User deactivated.", null, HttpStatus.OK.value()));
+    }
+
+    private void clearTokenCookie(HttpServletResponse response) {
         Cookie cookie = new Cookie("token", null);
         cookie.setMaxAge(0);
         cookie.setHttpOnly(true);
         cookie.setPath("/");
 
         response.addCookie(cookie);
-
-        logger.info("Logout successful");
-        return ResponseEntity.ok(ResponseHandler.success("Logged out successfully", null, HttpStatus.OK.value()));
     }
 
 }
@@ -0,0 +1,308 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.AddMembersRequest;
+import com.example.taskflow.dto.BatchRequest;
+import com.example.taskflow.dto.BatchResponse;
+import com.example.taskflow.dto.ProjectRequest;
+import com.example.taskflow.dto.TaskRequest;
+import com.example.taskflow.enums.RoleType;
+import com.example.taskflow.exception.GlobalExceptionHandler;
+import com.example.taskflow.utils.ResponseHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs {@code /api/v1/batch} requests. Each operation is matched against a table of the endpoints that
+ * make sense in a batch and calls the same service method as that endpoint, after the same role check the
+ * security config applies to its path, so the batch is authenticated once and, when transactional, uses
+ * one connection. Execution stops at the first failed operation.
+ */
+@Service
+public class BatchService {
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+    private static final Pattern REFERENCE = Pattern.compile("\\{\\{(\\d+)\\.([A-Za-z0-9_.]+)}}");
+
+    @FunctionalInterface
+    private interface Handler {
+        ResponseEntity<? extends ResponseHandler<?>> handle(Call call);
+    }
+
+    private record Route(HttpMethod method, String pattern, RoleType role, Handler handler) {}
+
+    private record Call(Map<String, String> variables, MultiValueMap<String, String> params, JsonNode body, Long userId) {
+        Long id(String name) {
+            try {
+                return Long.parseLong(variables.get(name));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format("Invalid value '%s' for parameter '%s'", variables.get(name), name));
+            }
+        }
+
+        String param(String name) {
+            String value = params.getFirst(name);
+            if(value == null) {
+                throw new IllegalArgumentException("Required parameter '" + name + "' is missing");
+            }
+            return value;
+        }
+    }
+
+    private static class InvalidBodyException extends RuntimeException {
+        private final Map<String, String> errors;
+
+        InvalidBodyException(Map<String, String> errors) {
+            super("Validation failed");
+            this.errors = errors;
+        }
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transaction;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final int maxOperations;
+
+    public BatchService(ProjectService projectService, TaskService taskService, ObjectMapper objectMapper, Validator validator,
+                        PlatformTransactionManager transactionManager, GlobalExceptionHandler exceptionHandler,
+                        @Value("${batch.max-operations:50}") int maxOperations) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.exceptionHandler = exceptionHandler;
+        this.maxOperations = maxOperations;
+
+        route(HttpMethod.POST, "/api/v1/managers/projects", RoleType.MANAGER,
+                call -> projectService.create(body(call, ProjectRequest.class), call.userId()));
+        route(HttpMethod.GET, "/api/v1/managers/projects/{id}", RoleType.MANAGER,
+                call -> projectService.getProjectById(call.id("id")));
+        route(HttpMethod.POST, "/api/v1/managers/projects/{id}/members", RoleType.MANAGER,
+                call -> projectService.addMembers(call.id("id"), body(call, AddMembersRequest.class)));
+        route(HttpMethod.GET, "/api/v1/managers/projects/{id}/members", RoleType.MANAGER,
+                call -> projectService.getMembersByProjectId(call.id("id"), call.params().getFirst("fields")));
+        route(HttpMethod.POST, "/api/v1/managers/projects/{id}/tasks", RoleType.MANAGER,
+                call -> taskService.create(call.id("id"), body(call, TaskRequest.class)));
+        route(HttpMethod.DELETE, "/api/v1/managers/projects/{projectId}/tasks/{taskId}", RoleType.MANAGER,
+                call -> taskService.delete(call.id("projectId"), call.id("taskId")));
+        route(HttpMethod.GET, "/api/v1/members/tasks/my", RoleType.MEMBER,
+                call -> taskService.viewTasks(call.userId(), call.params().getFirst("fields")));
+        route(HttpMethod.PATCH, "/api/v1/members/tasks/{id}/status", RoleType.MEMBER,
+                call -> taskService.updateStatusById(call.id("id"), call.param("status"), call.userId()));
+        route(HttpMethod.PATCH, "/api/v1/members/tasks/{id}/priority", RoleType.MEMBER,
+                call -> taskService.updatePriorityById(call.id("id"), call.param("priority"), call.userId()));
+    }
+
+    private void route(HttpMethod method, String pattern, RoleType role, Handler handler) {
+        routes.add(new Route(method, pattern, role, handler));
+    }
+
+    public ResponseEntity<ResponseHandler<BatchResponse>> execute(BatchRequest request, Authentication auth) {
+        List<BatchRequest.Operation> operations = request.getOperations();
+        if(operations.size() > maxOperations) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseHandler.error("A batch can contain at most " + maxOperations + " operations.", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        Long userId = Long.parseLong(auth.getName());
+        logger.info("Running batch of {} operations for user ID: {}, transactional: {}", operations.size(), userId, request.isTransactional());
+
+        List<BatchResponse.Result> results;
+        boolean rolledBack = false;
+        if(request.isTransactional()) {
+            results = transaction.execute(status -> {
+                List<BatchResponse.Result> run = run(operations, auth, userId);
+                if(failedAt(run) >= 0) {
+                    status.setRollbackOnly();
+                }
+                return run;
+            });
+            // the services only patch their in-memory state once a write commits, so nothing needs undoing here
+            rolledBack = failedAt(results) >= 0;
+        } else {
+            results = run(operations, auth, userId);
+        }
+
+        int failed = failedAt(results);
+        BatchResponse response = new BatchResponse(results, rolledBack);
+        if(failed < 0) {
+            return ResponseEntity.ok(ResponseHandler.success("Batch completed.", response, HttpStatus.OK.value()));
+        }
+
+        logger.warn("Batch failed at operation {} for user ID: {}, rolled back: {}", failed, userId, rolledBack);
+        String message = "Batch failed at operation " + failed + (rolledBack ? "; all operations were rolled back." : ".");
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(ResponseHandler.error(message, HttpStatus.MULTI_STATUS.value(), response));
+    }
+
+    private List<BatchResponse.Result> run(List<BatchRequest.Operation> operations, Authentication auth, Long userId) {
+        List<BatchResponse.Result> results = new ArrayList<>(operations.size());
+        Map<Integer, JsonNode> data = new HashMap<>();
+        boolean failed = false;
+
+        for (int i = 0; i < operations.size(); i++) {
+            if(failed) {
+                results.add(new BatchResponse.Result(i, HttpStatus.FAILED_DEPENDENCY.value(),
+                        ResponseHandler.error("Not run, an earlier operation failed.", HttpStatus.FAILED_DEPENDENCY.value())));
+                continue;
+            }
+
+            ResponseEntity<? extends ResponseHandler<?>> response = run(i, operations.get(i), data, auth, userId);
+            results.add(new BatchResponse.Result(i, response.getStatusCode().value(), response.getBody()));
+
+            if(response.getStatusCode().is2xxSuccessful()) {
+                Object body = response.getBody() != null ? response.getBody().getData() : null;
+                data.put(i, objectMapper.valueToTree(body));
+            } else {
+                failed = true;
+            }
+        }
+        return results;
+    }
+
+    private ResponseEntity<? extends ResponseHandler<?>> run(int index, BatchRequest.Operation operation, Map<Integer, JsonNode> data,
+                                                            Authentication auth, Long userId) {
+        try {
+            UriComponents uri = UriComponentsBuilder.fromUriString(resolve(operation.getPath(), data).asText()).build();
+            String path = uri.getPath();
+            HttpMethod method = HttpMethod.valueOf(operation.getMethod().toUpperCase());
+
+            Route route = routes.stream()
+                    .filter(candidate -> candidate.method().equals(method) && path != null && pathMatcher.match(candidate.pattern(), path))
+                    .findFirst()
+                    .orElse(null);
+            if(route == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ResponseHandler.error(method + " " + path + " is not supported in a batch.", HttpStatus.NOT_FOUND.value()));
+            }
+
+            if(!hasRole(auth, route.role())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ResponseHandler.error("Access denied - insufficient permissions", HttpStatus.FORBIDDEN.value()));
+            }
+
+            JsonNode body = operation.getBody() != null ? resolveAll(operation.getBody().deepCopy(), data) : null;
+            Call call = new Call(pathMatcher.extractUriTemplateVariables(route.pattern(), path), uri.getQueryParams(), body, userId);
+            return route.handler().handle(call);
+        } catch (InvalidBodyException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseHandler.error(e.getMessage(), HttpStatus.BAD_REQUEST.value(), e.errors));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Batch operation {} rejected: {}", index, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
+        } catch (DataIntegrityViolationException e) {
+            return exceptionHandler.handleDatabaseErrors(e);
+        } catch (RuntimeException e) {
+            return exceptionHandler.handleGenericErrors(e);
+        }
+    }
+
+    private <T> T body(Call call, Class<T> type) {
+        if(call.body() == null || call.body().isNull()) {
+            throw new IllegalArgumentException("Request body is required");
+        }
+
+        T request;
+        try {
+            request = objectMapper.treeToValue(call.body(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed request body: " + e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if(!violations.isEmpty()) {
+            Map<String, String> errors = new TreeMap<>();
+            violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            throw new InvalidBodyException(errors);
+        }
+        return request;
+    }
+
+    private static boolean hasRole(Authentication auth, RoleType role) {
+        String authority = "ROLE_" + role.name();
+        return auth.getAuthorities().stream().anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
+
+    private static int failedAt(List<BatchResponse.Result> results) {
+        for (BatchResponse.Result result : results) {
+            if(result.getStatus() < 200 || result.getStatus() >= 300) {
+                return result.getIndex();
+            }
+        }
+        return -1;
+    }
+
+    // replaces references in every string of a body; a string that is exactly one reference takes the referenced value's type
+    private JsonNode resolveAll(JsonNode node, Map<Integer, JsonNode> data) {
+        if(node.isTextual()) {
+            return resolve(node.asText(), data);
+        }
+        if(node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, resolveAll(array.get(i), data));
+            }
+        } else if(node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            for (Iterator<Map.Entry<String, JsonNode>> it = object.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                field.setValue(resolveAll(field.getValue(), data));
+            }
+        }
+        return node;
+    }
+
+    private JsonNode resolve(String text, Map<Integer, JsonNode> data) {
+        Matcher matcher = REFERENCE.matcher(text);
+        if(matcher.matches()) {
+            return lookup(matcher, data);
+        }
+
+        StringBuilder resolved = new StringBuilder();
+        matcher.reset();
+        while (matcher.find()) {
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(lookup(matcher, data).asText()));
+        }
+        matcher.appendTail(resolved);
+        return TextNode.valueOf(resolved.toString());
+    }
+
+    private static JsonNode lookup(Matcher reference, Map<Integer, JsonNode> data) {
+        JsonNode source = data.get(Integer.parseInt(reference.group(1)));
+        JsonNode value = source != null ? source.at("/" + reference.group(2).replace('.', '/')) : null;
+        if(value == null || value.isMissingNode() || value.isNull() || value.isContainerNode()) {
+            throw new IllegalArgumentException("Unresolved reference " + reference.group());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.BurndownPoint;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Daily per-project task counts by status for burndown and burnup charts, kept in project_daily_counts.
+ * Each status change appends a delta row to project_daily_deltas in the changing transaction, so a change
+ * is recorded exactly when it commits and no delta is lost with a node. A scheduled flush takes all committed
+ * deltas, summed per (project, day), and applies them with one INSERT (opening missing days from the day before)
+ * and one UPDATE (adding the deltas to their day and any later day), all in one transaction, so neither the
+ * request path nor a chart read ever counts tasks. The series lags committed changes by up to one flush interval.
+ */
+@Service
+public class BurndownService {
+    private static final Logger logger = LoggerFactory.getLogger(BurndownService.class);
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxDays;
+
+    public BurndownService(ProjectRepository projectRepository, PlatformTransactionManager transactionManager,
+                           @Value("${burndown.max-days:366}") int maxDays) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxDays = maxDays;
+    }
+
+    // from..to, both inclusive, defaults to the 30 days up to today; a day without changes repeats the day before
+    public ResponseEntity<ResponseHandler<List<BurndownPoint>>> getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if(start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseHandler.error("from must not be after to, and the range is limited to " + maxDays + " days.", HttpStatus.BAD_REQUEST.value()));
+        }
+        if(!projectRepository.existsById(projectId)) {
+            return ResponseHandler.notFound("Project not found.");
+        }
+
+        List<Object[]> rows = readOnlyTransaction.execute(status -> projectRepository.findDailyCounts(projectId, start, end));
+        return ResponseEntity.ok(ResponseHandler.success("Burndown fetched.", series(start, end, rows), HttpStatus.OK.value()));
+    }
+
+    // called by TaskService in the transaction that saves or deletes a task; from is null for a new task, to null
+    // for a deleted one
+    public void statusChanged(Long projectId, TaskStatus from, TaskStatus to) {
+        if(from == to) {
+            return;
+        }
+
+        int[] delta = new int[3];
+        if(from != null) {
+            delta[from.ordinal()]--;
+        }
+        if(to != null) {
+            delta[to.ordinal()]++;
+        }
+        record(projectId, delta);
+    }
+
+    // one delta row for a batch of new tasks
+    public void tasksCreated(Long projectId, List<TaskStatus> statuses) {
+        int[] delta = new int[3];
+        for (TaskStatus status : statuses) {
+            delta[status.ordinal()]++;
+        }
+        record(projectId, delta);
+    }
+
+    // delta indexed by TaskStatus ordinal: [todo, in_progress, done]
+    private void record(Long projectId, int[] delta) {
+        projectRepository.insertDailyDelta(projectId, LocalDate.now(), delta[0], delta[1], delta[2]);
+    }
+
+    @Scheduled(fixedDelayString = "${burndown.flush-ms:1000}", initialDelayString = "${burndown.flush-ms:1000}")
+    public void flush() {
+        try {
+            Integer applied = transactionTemplate.execute(status -> {
+                projectRepository.lockDailyCounts();
+                List<Object[]> deltas = projectRepository.takeDailyDeltas();
+                if(deltas.isEmpty()) {
+                    return 0;
+                }
+
+                Long[] projectIds = deltas.stream().map(row -> ((Number) row[0]).longValue()).toArray(Long[]::new);
+                LocalDate[] days = deltas.stream().map(row -> day(row[1])).toArray(LocalDate[]::new);
+                projectRepository.openDailyCounts(projectIds, days);
+                projectRepository.addDailyCounts(projectIds, days,
+                        deltas.stream().map(row -> ((Number) row[2]).intValue()).toArray(Integer[]::new),
+                        deltas.stream().map(row -> ((Number) row[3]).intValue()).toArray(Integer[]::new),
+                        deltas.stream().map(row -> ((Number) row[4]).intValue()).toArray(Integer[]::new));
+                return deltas.size();
+            });
+            if(applied != null && applied > 0) {
+                logger.debug("Applied daily count deltas of {} project days", applied);
+            }
+        } catch (RuntimeException e) {
+            // the delta rows were deleted in the same transaction, so they are still there for the next flush
+            logger.error("Failed to apply daily count deltas, retrying: {}", e.toString());
+        }
+    }
+
+    // one point per day from start to end; rows are [day, todo, in_progress, done] ordered by day, the first
+    // possibly before start, and days before the first row have no tasks
+    static List<BurndownPoint> series(LocalDate start, LocalDate end, List<Object[]> rows) {
+        List<BurndownPoint> points = new ArrayList<>((int) ChronoUnit.DAYS.between(start, end) + 1);
+        int next = 0;
+        int todo = 0;
+        int inProgress = 0;
+        int done = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            while (next < rows.size() && !day(rows.get(next)[0]).isAfter(day)) {
+                Object[] row = rows.get(next++);
+                todo = ((Number) row[1]).intValue();
+                inProgress = ((Number) row[2]).intValue();
+                done = ((Number) row[3]).intValue();
+            }
+            points.add(new BurndownPoint(day, todo, inProgress, done));
+        }
+        return points;
+    }
+
+    private static LocalDate day(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
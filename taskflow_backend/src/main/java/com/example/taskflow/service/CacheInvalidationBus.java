@@ -0,0 +1,167 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.utils.InvalidationTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other nodes which in-process cache entries a local write made stale. Keys published within
+ * one {@code cache.invalidation.window-ms} window are deduplicated and sent as a single message of the
+ * form {@code node|cache:key,cache:key}. A {@code cache:*} key (see {@link #publishAll}) replaces all
+ * pending keys of that cache, and so do more than {@code max-pending-keys} pending keys.
+ * <p>
+ * Keys published inside a transaction are only queued once it commits, so a node that drops its entry
+ * does not reload the old data. Messages from this node are ignored on receipt.
+ */
+@Component
+public class CacheInvalidationBus implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String ALL = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private final Set<String> pending = new LinkedHashSet<>();
+    private final int maxPendingKeys;
+    private final ScheduledExecutorService flusher;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter keysPublished;
+
+    public CacheInvalidationBus(InvalidationTransport transport, MeterRegistry meterRegistry,
+                                @Value("${cache.invalidation.window-ms:20}") long windowMs,
+                                @Value("${cache.invalidation.max-pending-keys:1000}") int maxPendingKeys) {
+        this.transport = transport;
+        this.maxPendingKeys = maxPendingKeys;
+        this.sent = meterRegistry.counter("taskflow.cache.invalidation.messages", "direction", "sent");
+        this.received = meterRegistry.counter("taskflow.cache.invalidation.messages", "direction", "received");
+        this.keysPublished = meterRegistry.counter("taskflow.cache.invalidation.keys");
+
+        transport.subscribe(this::receive);
+
+        if(windowMs > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-invalidation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+        } else {
+            // no window: every publish is sent right away
+            this.flusher = null;
+        }
+    }
+
+    // key is the cache's own key (e.g. a member ID) or ALL
+    public void subscribe(String cache, Consumer<String> listener) {
+        listeners.computeIfAbsent(cache, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void publish(String cache, Object key) {
+        String entry = cache + ":" + key;
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(cache, entry);
+                }
+            });
+        } else {
+            enqueue(cache, entry);
+        }
+    }
+
+    public void publishAll(String cache) {
+        publish(cache, ALL);
+    }
+
+    private void enqueue(String cache, String entry) {
+        keysPublished.increment();
+        String all = cache + ":" + ALL;
+        synchronized (pending) {
+            if(pending.contains(all)) {
+                return;
+            }
+            if(entry.equals(all) || pending.size() >= maxPendingKeys) {
+                pending.removeIf(key -> key.startsWith(cache + ":"));
+                pending.add(all);
+            } else {
+                pending.add(entry);
+            }
+        }
+
+        if(flusher == null) {
+            flush();
+        }
+    }
+
+    void flush() {
+        List<String> keys;
+        synchronized (pending) {
+            if(pending.isEmpty()) {
+                return;
+            }
+            keys = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        try {
+            transport.send(nodeId + "|" + String.join(",", keys));
+            sent.increment();
+        } catch (RuntimeException e) {
+            // caches on other nodes still expire on their own
+            logger.warn("Failed to send {} cache invalidations: {}", keys.size(), e.toString());
+        }
+    }
+
+    private void receive(String message) {
+        int separator = message.indexOf('|');
+        if(separator < 0 || message.startsWith(nodeId + "|")) {
+            return;
+        }
+        received.increment();
+
+        for (String key : message.substring(separator + 1).split(",")) {
+            int colon = key.indexOf(':');
+            if(colon < 0) {
+                continue;
+            }
+            for (Consumer<String> listener : listeners.getOrDefault(key.substring(0, colon), List.of())) {
+                try {
+                    listener.accept(key.substring(colon + 1));
+                } catch (RuntimeException e) {
+                    logger.warn("Cache invalidation '{}' failed: {}", key, e.toString());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if(flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+}
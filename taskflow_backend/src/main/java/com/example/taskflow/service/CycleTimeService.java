@@ -0,0 +1,164 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.CycleTimeResponse;
+import com.example.taskflow.entity.Project;
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.utils.LogHistogram;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lead time (created to DONE) and cycle time (first IN_PROGRESS to DONE) percentiles per project and per
+ * manager. Each project's completed tasks are read once into a pair of {@link LogHistogram}s, which
+ * completions on this node then extend as they commit; a manager's figures merge the histograms of their
+ * projects, so neither read scans task history. Reopened tasks and completions on other nodes (through
+ * the {@link CacheInvalidationBus}) drop the project's histograms, and the next read rebuilds them.
+ */
+@Service
+public class CycleTimeService {
+    private static final Logger logger = LoggerFactory.getLogger(CycleTimeService.class);
+
+    private static final String CACHE_NAME = "cycle-time";
+
+    private record Histograms(LogHistogram leadTime, LogHistogram cycleTime) {
+        Histograms() {
+            this(new LogHistogram(), new LogHistogram());
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, Histograms> histograms;
+    private long version;
+
+    public CycleTimeService(TaskRepository taskRepository, ProjectRepository projectRepository, CacheInvalidationBus invalidationBus,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${cycle-time.cache.max-projects:1000}") int maxProjects) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.invalidationBus = invalidationBus;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // access-ordered, so the eldest entry is the least recently used project
+        this.histograms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Histograms> eldest) {
+                return size() > maxProjects;
+            }
+        };
+
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            synchronized (histograms) {
+                version++;
+                if(CacheInvalidationBus.ALL.equals(key)) {
+                    histograms.clear();
+                } else {
+                    histograms.remove(Long.parseLong(key));
+                }
+            }
+        });
+    }
+
+    public ResponseEntity<ResponseHandler<CycleTimeResponse>> getCycleTime(Long projectId) {
+        if(!projectRepository.existsById(projectId)) {
+            return ResponseHandler.notFound("Project not found.");
+        }
+        return ResponseEntity.ok(ResponseHandler.success("Cycle time fetched.", response(histograms(projectId)), HttpStatus.OK.value()));
+    }
+
+    public ResponseEntity<ResponseHandler<CycleTimeResponse>> getCycleTimeByManagerId(Long managerId) {
+        Histograms merged = new Histograms();
+        for (Project project : projectRepository.findByManager_Id(managerId)) {
+            Histograms projectHistograms = histograms(project.getId());
+            merged.leadTime().merge(projectHistograms.leadTime());
+            merged.cycleTime().merge(projectHistograms.cycleTime());
+        }
+        return ResponseEntity.ok(ResponseHandler.success("Cycle time fetched.", response(merged), HttpStatus.OK.value()));
+    }
+
+    // called by TaskTransitionLog once a status change has committed
+    void statusChanged(Task task, boolean completed) {
+        Histograms cached;
+        synchronized (histograms) {
+            version++;
+            cached = completed ? histograms.get(task.getProjectId()) : null;
+            if(!completed) {
+                // reopened: its earlier completion is already counted
+                histograms.remove(task.getProjectId());
+            }
+        }
+
+        if(cached != null && task.getCreatedAt() != null && task.getCompletedAt() != null) {
+            cached.leadTime().record(seconds(task.getCreatedAt(), task.getCompletedAt()));
+            if(task.getStartedAt() != null) {
+                cached.cycleTime().record(seconds(task.getStartedAt(), task.getCompletedAt()));
+            }
+        }
+        invalidationBus.publish(CACHE_NAME, task.getProjectId());
+    }
+
+    private Histograms histograms(Long projectId) {
+        long loadVersion;
+        synchronized (histograms) {
+            Histograms cached = histograms.get(projectId);
+            if(cached != null) {
+                return cached;
+            }
+            loadVersion = version;
+        }
+
+        List<Object[]> rows = readOnlyTransaction.execute(status -> taskRepository.findCompletionTimesByProjectId(projectId));
+        Histograms loaded = new Histograms();
+        for (Object[] row : rows) {
+            loaded.leadTime().record(((Number) row[0]).longValue());
+            if(row[1] != null) {
+                loaded.cycleTime().record(((Number) row[1]).longValue());
+            }
+        }
+        logger.debug("Loaded cycle times of project ID: {} - {} completed tasks", projectId, rows.size());
+
+        synchronized (histograms) {
+            // a completion raced with the load; serve the histograms but do not keep them
+            if(version == loadVersion) {
+                histograms.put(projectId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private static long seconds(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).getSeconds();
+    }
+
+    private static CycleTimeResponse response(Histograms histograms) {
+        return new CycleTimeResponse(
+                histograms.leadTime().count(),
+                hours(histograms.leadTime().quantile(0.5)),
+                hours(histograms.leadTime().quantile(0.95)),
+                histograms.cycleTime().count(),
+                hours(histograms.cycleTime().quantile(0.5)),
+                hours(histograms.cycleTime().quantile(0.95)));
+    }
+
+    private static Double hours(Long seconds) {
+        return seconds != null ? Math.round(seconds / 36.0) / 100.0 : null;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.DashboardResponse;
+import com.example.taskflow.dto.ProjectResponse;
+import com.example.taskflow.dto.TaskStatsDTO;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Builds the manager dashboard (projects, member count, task stats) in one request. The three sections
+ * run concurrently on a small bounded pool, so the response takes as long as the slowest section rather
+ * than the sum. Each section gets {@code dashboard.section-timeout-ms}; one that fails, times out or is
+ * rejected because the pool is saturated is reported in {@code unavailable} instead of failing the request,
+ * while one with nothing to show (not found) is returned empty.
+ * <p>
+ * A section runs in a read-only transaction with the same timeout, which becomes the query timeout of its
+ * statements, so the database cancels a query the response has stopped waiting for instead of letting it
+ * hold the connection.
+ * <p>
+ * The pool is private to this service rather than a bean: an {@code Executor} bean would replace Spring
+ * Boot's {@code applicationTaskExecutor}, which async MVC and the deferred JPA bootstrap rely on. Its size
+ * also caps how many connections dashboards can hold at once.
+ */
+@Service
+public class DashboardService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate sectionTransaction;
+    private final long sectionTimeoutMs;
+
+    public DashboardService(ProjectService projectService, TaskService taskService, PlatformTransactionManager transactionManager,
+                            @Value("${dashboard.pool-size:8}") int poolSize,
+                            @Value("${dashboard.queue-capacity:64}") int queueCapacity,
+                            @Value("${dashboard.section-timeout-ms:2000}") long sectionTimeoutMs) {
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        // transaction timeouts are whole seconds
+        this.sectionTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("dashboard-");
+        this.executor.setTaskDecorator(DashboardService::withLoggingContext);
+        this.executor.initialize();
+    }
+
+    public ResponseEntity<ResponseHandler<DashboardResponse>> getDashboard(Long managerId) {
+        logger.info("Fetching dashboard for manager ID: {}", managerId);
+
+        CompletableFuture<List<ProjectResponse>> projects = section(() -> projectService.getProjects(managerId), List.of());
+        CompletableFuture<Long> totalMembers = section(() -> projectService.getTotalMembersByManagerId(managerId), 0L);
+        CompletableFuture<TaskStatsDTO> taskStats = section(() -> taskService.getTaskStatsByManagerId(managerId), new TaskStatsDTO(0, 0, 0));
+
+        List<String> unavailable = new ArrayList<>();
+        DashboardResponse response = new DashboardResponse(
+                join(projects, "projects", unavailable),
+                join(totalMembers, "totalMembers", unavailable),
+                join(taskStats, "taskStats", unavailable),
+                unavailable.isEmpty() ? null : unavailable);
+
+        if(!unavailable.isEmpty()) {
+            logger.warn("Dashboard for manager ID: {} is missing sections {}", managerId, unavailable);
+            return ResponseEntity.ok(ResponseHandler.success("Dashboard partially fetched.", response, HttpStatus.OK.value()));
+        }
+
+        return ResponseEntity.ok(ResponseHandler.success("Dashboard fetched successfully.", response, HttpStatus.OK.value()));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // empty is the section's value when the call finds nothing
+    private <T> CompletableFuture<T> section(Supplier<ResponseEntity<ResponseHandler<T>>> call, T empty) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                ResponseEntity<ResponseHandler<T>> response = sectionTransaction.execute(status -> call.get());
+                if(response.getStatusCode() == HttpStatus.NOT_FOUND) {
+                    return empty;
+                }
+                if(!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                    throw new IllegalStateException(response.getBody() != null ? response.getBody().getMessage() : "Empty response");
+                }
+                return response.getBody().getData();
+            }, executor);
+        } catch (RuntimeException e) {
+            // pool and queue are full
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static <T> T join(CompletableFuture<T> section, String name, List<String> unavailable) {
+        try {
+            return section.join();
+        } catch (RuntimeException e) {
+            logger.warn("Dashboard section '{}' unavailable: {}", name, e.getCause() != null ? e.getCause().toString() : e.toString());
+            unavailable.add(name);
+            return null;
+        }
+    }
+
+    // sections log with the request's requestId/userId
+    private static Runnable withLoggingContext(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            if(context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+}
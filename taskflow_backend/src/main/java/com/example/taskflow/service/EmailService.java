@@ -3,6 +3,7 @@ package com.example.taskflow.service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -10,7 +11,9 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+// only used by the test mail endpoints; created on first use to keep mail and Thymeleaf off the startup path
 @Service
+@Lazy
 public class EmailService {
 
     @Autowired private JavaMailSender mailSender;
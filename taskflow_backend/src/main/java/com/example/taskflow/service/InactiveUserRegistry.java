@@ -0,0 +1,111 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * IDs of deactivated users, consulted by the auth filter on every request. The set is a {@link BitSet}
+ * indexed by user ID, replaced copy-on-write on the rare status change, so a lookup is a single unlocked
+ * bit test. Status changes made on other nodes arrive through the {@link CacheInvalidationBus}; a
+ * periodic full reload covers lost messages.
+ */
+@Service
+public class InactiveUserRegistry implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(InactiveUserRegistry.class);
+
+    private static final String CACHE_NAME = "inactive-users";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate primaryRead;
+
+    private volatile BitSet inactive = new BitSet();
+    private volatile boolean running;
+
+    public InactiveUserRegistry(UserRepository userRepository, CacheInvalidationBus invalidationBus,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        // read-write, so the lookup is routed to the primary and never sees a replica that lags the change
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            if(running) {
+                refresh(Long.parseLong(key));
+            }
+        });
+    }
+
+    // loaded before the web server accepts requests, like the token revocation filter
+    @Override
+    public void start() {
+        reload();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    public boolean isInactive(Long userId) {
+        return userId >= 0 && userId <= Integer.MAX_VALUE && inactive.get(userId.intValue());
+    }
+
+    // called after the status change is saved
+    public void setInactive(Long userId, boolean isInactive) {
+        update(userId, isInactive);
+        invalidationBus.publish(CACHE_NAME, userId);
+    }
+
+    // holds the lock across the query, so a status change made meanwhile is applied after the new snapshot
+    @Scheduled(fixedDelayString = "${users.inactive.reload-ms:60000}", initialDelayString = "${users.inactive.reload-ms:60000}")
+    public synchronized void reload() {
+        List<Long> ids = userRepository.findInactiveUserIds();
+
+        BitSet loaded = new BitSet();
+        for (Long id : ids) {
+            if(id <= Integer.MAX_VALUE) {
+                loaded.set(id.intValue());
+            }
+        }
+
+        inactive = loaded;
+        logger.debug("Loaded {} inactive users", ids.size());
+    }
+
+    // a status change on another node, published once it committed there
+    private void refresh(Long userId) {
+        Boolean isInactive = primaryRead.execute(status ->
+                userRepository.findById(userId).map(user -> Boolean.FALSE.equals(user.getStatus())).orElse(false));
+        update(userId, Boolean.TRUE.equals(isInactive));
+    }
+
+    private synchronized void update(Long userId, boolean isInactive) {
+        if(userId < 0 || userId > Integer.MAX_VALUE || inactive.get(userId.intValue()) == isInactive) {
+            return;
+        }
+
+        BitSet updated = (BitSet) inactive.clone();
+        updated.set(userId.intValue(), isInactive);
+        inactive = updated;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.repository.ArchivedTaskRepository;
+import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Physically removes tombstoned projects. Tasks and memberships are deleted in bounded chunks, each in
+ * its own short transaction, so deleting a large project never holds locks for long.
+ */
+@Service
+public class ProjectCleanupService {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCleanupService.class);
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ProjectCleanupService(ProjectRepository projectRepository, TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${project.cleanup.batch-size:1000}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${project.cleanup.interval-ms:30000}")
+    public void purgeDeletedProjects() {
+        List<Long> projectIds = projectRepository.findDeletedProjectIds(10);
+
+        for (Long projectId : projectIds) {
+            purge(projectId);
+        }
+    }
+
+    private void purge(Long projectId) {
+        logger.info("Purging deleted project ID: {}", projectId);
+
+        long tasks = deleteInChunks(() -> taskRepository.deleteChunkByProjectId(projectId, batchSize));
+        long archived = deleteInChunks(() -> archivedTaskRepository.deleteChunkByProjectId(projectId, batchSize));
+        long memberships = deleteInChunks(() -> projectRepository.deleteMembershipsChunk(projectId, batchSize));
+        // at most one row per day of the project's life, plus the deltas not yet flushed
+        transactionTemplate.executeWithoutResult(status -> {
+            projectRepository.deleteDailyDeltas(projectId);
+            projectRepository.deleteDailyCounts(projectId);
+        });
+        transactionTemplate.executeWithoutResult(status -> projectRepository.purgeDeleted(projectId));
+
+        logger.info("Purged project ID: {} - {} tasks, {} archived tasks, {} memberships removed", projectId, tasks, archived, memberships);
+    }
+
+    private long deleteInChunks(ChunkDelete chunkDelete) {
+        long total = 0;
+        int deleted;
+
+        do {
+            Integer result = transactionTemplate.execute(status -> chunkDelete.delete());
+            deleted = result != null ? result : 0;
+            total += deleted;
+        } while (deleted == batchSize);
+
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface ChunkDelete {
+        int delete();
+    }
+}
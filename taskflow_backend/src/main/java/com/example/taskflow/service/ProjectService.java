@@ -1,17 +1,27 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.config.ReplicaRead;
 import com.example.taskflow.dto.*;
 import com.example.taskflow.entity.Project;
 import com.example.taskflow.entity.User;
 import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.SparseProjectionRepository;
 import com.example.taskflow.repository.UserRepository;
 import com.example.taskflow.utils.ResponseHandler;
+import com.example.taskflow.utils.SingleFlight;
+import com.example.taskflow.utils.SparseFields;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,10 +31,26 @@ public class ProjectService {
     
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-
-    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository) {
+    private final TaskFeedCache taskFeedCache;
+    private final TaskDependencyService taskDependencyService;
+    private final TaskAssignmentService taskAssignmentService;
+    private final SparseProjectionRepository sparseProjectionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, Long> totalMembersFlight;
+
+    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository, TaskFeedCache taskFeedCache,
+                          TaskDependencyService taskDependencyService, TaskAssignmentService taskAssignmentService,
+                          SparseProjectionRepository sparseProjectionRepository, PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry, @Value("${singleflight.ttl-ms:1000}") long singleFlightTtlMs) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.taskFeedCache = taskFeedCache;
+        this.taskDependencyService = taskDependencyService;
+        this.taskAssignmentService = taskAssignmentService;
+        this.sparseProjectionRepository = sparseProjectionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.totalMembersFlight = new SingleFlight<>("totalMembersByManager", singleFlightTtlMs, meterRegistry);
     }
 
     public ResponseEntity<ResponseHandler<ProjectResponse>> create(ProjectRequest request, Long userId) {
@@ -55,24 +81,43 @@ public class ProjectService {
 
     public ResponseEntity<ResponseHandler<Long>> delete(Long projectId) {
         logger.info("Deleting project ID: {}", projectId);
-        
-        Optional<Project> project = projectRepository.findById(projectId);
 
-        if(project.isEmpty()) {
+        // tombstone only; tasks and memberships are removed in chunks by ProjectCleanupService
+        int deleted = projectRepository.markDeleted(projectId, LocalDateTime.now());
+
+        if(deleted == 0) {
             logger.warn("Project deletion failed - project not found: {}", projectId);
             return ResponseHandler.notFound("Project not found.");
         }
 
-        projectRepository.delete(project.get());
-        
+        // the project's tasks drop out of every member feed at once
+        taskFeedCache.invalidateAll();
+        taskDependencyService.invalidate(projectId);
+        taskAssignmentService.invalidate(projectId);
+
         logger.info("Project deleted successfully - ID: {}", projectId);
 
-        return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Project deleted successfully.",project.get().getId(), HttpStatus.OK.value()));
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Project deleted successfully.", projectId, HttpStatus.OK.value()));
     }
 
+    @Transactional(readOnly = true)
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<List<ProjectResponse>>> getProjects(Long userId) {
+        return getProjects(userId, null);
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<List<ProjectResponse>>> getProjects(Long userId, String fields) {
         logger.info("Fetching projects for manager ID: {}", userId);
-        
+
+        List<SparseFields.Field<ProjectResponse>> selection;
+        try {
+            selection = SparseProjectionRepository.PROJECT_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
+        }
+
         Optional<User> optManager = userRepository.findById(userId);
 
         if(optManager.isEmpty()) {
@@ -80,15 +125,17 @@ public class ProjectService {
             return ResponseHandler.notFound("Projects not found.");
         }
 
-        User manager = optManager.get();
-
-        List<ProjectResponse> response  = manager.getManagedProjects().stream().map(p -> new ProjectResponse( p.getId(), p.getName(), p.getDescription())).collect(Collectors.toList());
+        List<ProjectResponse> response = selection != null
+                ? sparseProjectionRepository.findProjectsByManagerId(userId, selection)
+                : projectRepository.findByManager_Id(userId).stream().map(p -> new ProjectResponse( p.getId(), p.getName(), p.getDescription())).collect(Collectors.toList());
 
         logger.info("Fetched {} projects for manager ID: {}", response.size(), userId);
 
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Projects were fetched.", response, HttpStatus.OK.value()));
     }
 
+    @Transactional(readOnly = true)
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<ProjectResponse>> getProjectById(Long projectId) {
         logger.info("Fetching project ID: {}", projectId);
         
@@ -109,35 +156,57 @@ public class ProjectService {
 
     public ResponseEntity<ResponseHandler<String>> addMembers(Long projectId, AddMembersRequest request) {
         logger.info("Adding {} members to project ID: {}", request.getMemberIds().size(), projectId);
-        
-        Optional<Project> optProject = projectRepository.findById(projectId);
 
-        if(optProject.isEmpty()) {
+        if(!projectRepository.existsById(projectId)) {
             logger.warn("Add members failed - project not found: {}", projectId);
             return ResponseHandler.notFound("Project not found.");
         }
 
-        Project project = optProject.get();
-        List<User> members = userRepository.findAllById(request.getMemberIds());
+        // writes only the missing project_member rows instead of rewriting the whole collection
+        int added = projectRepository.addMembers(projectId, request.getMemberIds());
 
-        if(members.isEmpty()) {
+        if(added == 0 && !userRepository.existsByIdIn(request.getMemberIds())) {
             logger.warn("Add members failed - no valid members found for IDs: {}", request.getMemberIds());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error("No valid members found for given IDs.", HttpStatus.BAD_REQUEST.value()));
         }
 
-        Set<User> currentMembers = new HashSet<>(project.getMembers());
-        currentMembers.addAll(members);
-        project.setMembers(new ArrayList<>(currentMembers));
-
-        projectRepository.save(project);
+        if(added > 0) {
+            taskAssignmentService.invalidate(projectId);
+        }
 
-        logger.info("Added {} members to project ID: {}", members.size(), projectId);
+        logger.info("Added {} members to project ID: {}", added, projectId);
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Members added successfully.", null, HttpStatus.OK.value()));
     }
 
-    public ResponseEntity<ResponseHandler<MembersResponse>> getMembersByProjectId(Long projectId) {
+    public ResponseEntity<ResponseHandler<String>> removeMembers(Long projectId, AddMembersRequest request) {
+        logger.info("Removing {} members from project ID: {}", request.getMemberIds().size(), projectId);
+
+        if(!projectRepository.existsById(projectId)) {
+            logger.warn("Remove members failed - project not found: {}", projectId);
+            return ResponseHandler.notFound("Project not found.");
+        }
+
+        int removed = projectRepository.removeMembers(projectId, request.getMemberIds());
+        if(removed > 0) {
+            taskAssignmentService.invalidate(projectId);
+        }
+
+        logger.info("Removed {} members from project ID: {}", removed, projectId);
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Members removed successfully.", null, HttpStatus.OK.value()));
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<MembersResponse>> getMembersByProjectId(Long projectId, String fields) {
         logger.info("Fetching members for project ID: {}", projectId);
-        
+
+        List<SparseFields.Field<AuthResponse>> selection;
+        try {
+            selection = SparseProjectionRepository.MEMBER_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
+        }
+
         Optional<Project> optProject = projectRepository.findById(projectId);
 
         if(optProject.isEmpty()) {
@@ -146,10 +215,12 @@ public class ProjectService {
         }
 
         Project project = optProject.get();
-        List<AuthResponse> members = project.getMembers().stream().map(member -> new AuthResponse(
-                member.getId(),
-                member.getName(),
-                member.getEmail())).toList();
+        List<AuthResponse> members = selection != null
+                ? sparseProjectionRepository.findMembersByProjectId(projectId, selection)
+                : project.getMembers().stream().map(member -> new AuthResponse(
+                        member.getId(),
+                        member.getName(),
+                        member.getEmail())).toList();
 
         logger.info("Fetched {} members for project ID: {}", members.size(), projectId);
 
@@ -157,8 +228,11 @@ public class ProjectService {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Members fetched successfully.", response, HttpStatus.OK.value()));
     }
 
+    // coalesced like TaskService.getTaskStatsByManagerId, so no @Transactional here either
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<Long>> getTotalMembersByManagerId(Long managerId) {
-        Long totalMembers = projectRepository.countMembersByManagerId(managerId);
+        Long totalMembers = totalMembersFlight.execute(managerId,
+                () -> readOnlyTransaction.execute(status -> projectRepository.countMembersByManagerId(managerId)));
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Total members fetched.", totalMembers, HttpStatus.OK.value()));
     }
 }
@@ -0,0 +1,108 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.config.ReplicaRead;
+import com.example.taskflow.dto.ArchivedTaskResponse;
+import com.example.taskflow.dto.PageResponse;
+import com.example.taskflow.entity.ArchivedTask;
+import com.example.taskflow.repository.ArchivedTaskRepository;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves DONE tasks older than {@code archive.after-days} from {@code tasks} into {@code tasks_archive}
+ * and serves the archived history. Each batch is moved in its own short transaction so archiving a large
+ * backlog never holds locks on the live table for long.
+ */
+@Service
+public class TaskArchiveService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskFeedCache taskFeedCache;
+    private final TaskDependencyService taskDependencyService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int afterDays;
+    private final int batchSize;
+
+    public TaskArchiveService(ArchivedTaskRepository archivedTaskRepository, TaskFeedCache taskFeedCache, TaskDependencyService taskDependencyService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${archive.enabled:true}") boolean enabled,
+                              @Value("${archive.after-days:30}") int afterDays,
+                              @Value("${archive.batch-size:1000}") int batchSize) {
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskFeedCache = taskFeedCache;
+        this.taskDependencyService = taskDependencyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${archive.interval-ms:3600000}", initialDelayString = "${archive.interval-ms:3600000}")
+    public void archiveCompletedTasks() {
+        if(!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        long total = 0;
+        int moved;
+
+        do {
+            Integer result = transactionTemplate.execute(status -> archivedTaskRepository.archiveCompletedBefore(cutoff, batchSize));
+            moved = result != null ? result : 0;
+            total += moved;
+        } while (moved == batchSize);
+
+        if(total > 0) {
+            taskFeedCache.invalidateAll();
+            taskDependencyService.invalidateAll();
+            logger.info("Archived {} tasks completed before {}", total, cutoff);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<PageResponse<ArchivedTaskResponse>>> getArchivedTasksByProjectId(Long projectId, int page, int size) {
+        logger.info("Fetching archived tasks for project ID: {} (page {}, size {})", projectId, page, size);
+
+        Slice<ArchivedTask> slice = archivedTaskRepository.findByProjectIdOrderByCompletedAtDescIdDesc(projectId, pageRequest(page, size));
+        return ResponseEntity.ok(ResponseHandler.success("Archived tasks fetched successfully.", toPage(slice), HttpStatus.OK.value()));
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<PageResponse<ArchivedTaskResponse>>> getArchivedTasksByMemberId(Long memberId, int page, int size) {
+        logger.info("Fetching archived tasks for member ID: {} (page {}, size {})", memberId, page, size);
+
+        Slice<ArchivedTask> slice = archivedTaskRepository.findByMemberIdOrderByCompletedAtDescIdDesc(memberId, pageRequest(page, size));
+        return ResponseEntity.ok(ResponseHandler.success("Archived tasks fetched successfully.", toPage(slice), HttpStatus.OK.value()));
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    private static PageResponse<ArchivedTaskResponse> toPage(Slice<ArchivedTask> slice) {
+        return new PageResponse<>(
+                slice.map(task -> new ArchivedTaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                        task.getPriority(), task.getProjectId(), task.getCompletedAt(), task.getArchivedAt())).getContent(),
+                slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.utils.AssignmentHeap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Automatic task assignment. Each project's active members are kept in an {@link AssignmentHeap} keyed by
+ * open load, the sum of {@link PriorityType#weight()} over their TODO and IN_PROGRESS tasks, so picking a
+ * member is an in-memory lookup instead of an availability query per task. The heap is loaded once per
+ * project and then adjusted by the task writes in {@link TaskService}; membership changes and writes on
+ * other nodes (through the {@link CacheInvalidationBus}) drop it, and the next assignment reloads it.
+ * Deactivated members are skipped at assignment time.
+ */
+@Service
+public class TaskAssignmentService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskAssignmentService.class);
+
+    private static final String CACHE_NAME = "assignment-load";
+
+    private final UserRepository userRepository;
+    private final InactiveUserRegistry inactiveUserRegistry;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, AssignmentHeap> heaps;
+    private long version;
+
+    public TaskAssignmentService(UserRepository userRepository, InactiveUserRegistry inactiveUserRegistry, CacheInvalidationBus invalidationBus,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${assignment.cache.max-projects:200}") int maxProjects) {
+        this.userRepository = userRepository;
+        this.inactiveUserRegistry = inactiveUserRegistry;
+        this.invalidationBus = invalidationBus;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // access-ordered, so the eldest entry is the least recently used project
+        this.heaps = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AssignmentHeap> eldest) {
+                return size() > maxProjects;
+            }
+        };
+
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            synchronized (heaps) {
+                version++;
+                if(CacheInvalidationBus.ALL.equals(key)) {
+                    heaps.clear();
+                } else {
+                    heaps.remove(Long.parseLong(key));
+                }
+            }
+        });
+    }
+
+    // what a task adds to its member's load; DONE tasks add nothing
+    public static long openLoad(TaskStatus status, PriorityType priority) {
+        return status != null && status != TaskStatus.DONE && priority != null ? priority.weight() : 0;
+    }
+
+    /**
+     * Picks the active member with the lowest open load and counts the new task against them.
+     * Returns null if the project has no active members. Inside a transaction the charge is dropped
+     * with the heap unless it commits; a caller that gives up without rolling back calls {@link #invalidate}.
+     */
+    public Long assign(Long projectId, TaskStatus status, PriorityType priority) {
+        Long memberId = heap(projectId).assign(openLoad(status, priority), this::isEligible);
+        if(memberId != null) {
+            charged(projectId);
+        }
+        return memberId;
+    }
+
+    // one member per task, in the given order; null if the project has no active members
+    public List<Long> assignAll(Long projectId, List<TaskStatus> statuses, List<PriorityType> priorities) {
+        long[] weights = new long[statuses.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = openLoad(statuses.get(i), priorities.get(i));
+        }
+
+        List<Long> memberIds = heap(projectId).assignAll(weights, this::isEligible);
+        if(memberIds != null) {
+            charged(projectId);
+        }
+        return memberIds;
+    }
+
+    // after a task is saved; previousLoad is openLoad() of the task before the change, 0 for a new task
+    public void taskSaved(Task task, long previousLoad) {
+        adjust(task, openLoad(task.getStatus(), task.getPriority()) - previousLoad);
+    }
+
+    public void taskDeleted(Task task) {
+        adjust(task, -openLoad(task.getStatus(), task.getPriority()));
+    }
+
+    // membership changes, project deletion, assignments that were not saved
+    public void invalidate(Long projectId) {
+        synchronized (heaps) {
+            version++;
+            heaps.remove(projectId);
+        }
+        invalidationBus.publish(CACHE_NAME, projectId);
+    }
+
+    private void charged(Long projectId) {
+        invalidationBus.publish(CACHE_NAME, projectId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status != STATUS_COMMITTED) {
+                        invalidate(projectId);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean isEligible(long memberId) {
+        return !inactiveUserRegistry.isInactive(memberId);
+    }
+
+    // only a heap that is already loaded is adjusted
+    private void adjust(Task task, long delta) {
+        if(delta == 0 || task.getMember() == null) {
+            return;
+        }
+
+        AssignmentHeap heap;
+        synchronized (heaps) {
+            version++;
+            heap = heaps.get(task.getProjectId());
+        }
+        if(heap != null) {
+            heap.adjust(task.getMember().getId(), delta);
+        }
+        invalidationBus.publish(CACHE_NAME, task.getProjectId());
+    }
+
+    private AssignmentHeap heap(Long projectId) {
+        long loadVersion;
+        synchronized (heaps) {
+            AssignmentHeap heap = heaps.get(projectId);
+            if(heap != null) {
+                return heap;
+            }
+            loadVersion = version;
+        }
+
+        List<Object[]> rows = readOnlyTransaction.execute(status -> userRepository.findOpenLoadByProjectId(projectId));
+        Map<Long, Long> loads = new HashMap<>();
+        for (Object[] row : rows) {
+            long load = row[1] != null ? PriorityType.valueOf((String) row[1]).weight() * ((Number) row[2]).longValue() : 0;
+            loads.merge(((Number) row[0]).longValue(), load, Long::sum);
+        }
+        AssignmentHeap loaded = new AssignmentHeap(loads);
+        logger.debug("Loaded assignment heap of project ID: {} - {} members", projectId, loads.size());
+
+        synchronized (heaps) {
+            // a task write raced with the load; keep whichever heap got there first
+            AssignmentHeap current = heaps.get(projectId);
+            if(current != null) {
+                return current;
+            }
+            if(version == loadVersion) {
+                heaps.put(projectId, loaded);
+            }
+        }
+        return loaded;
+    }
+}
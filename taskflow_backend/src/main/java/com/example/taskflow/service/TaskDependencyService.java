@@ -0,0 +1,230 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.ProjectScheduleResponse;
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.utils.DependencyGraph;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task dependencies and the schedule derived from them. Each project's {@link DependencyGraph} is loaded
+ * once and then kept up to date by the dependency endpoints and the task writes in {@link TaskService}, so
+ * schedule reads never touch the database. Graphs are held in a bounded LRU map; other nodes drop their
+ * copy through the {@link CacheInvalidationBus}.
+ * <p>
+ * The in-memory cycle check answers most requests; the insert itself re-checks against the table under a
+ * per-project advisory lock, since another node may have added an edge this node has not seen yet.
+ */
+@Service
+public class TaskDependencyService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskDependencyService.class);
+
+    private static final String CACHE_NAME = "dependency-graph";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, DependencyGraph> graphs;
+    private long version;
+
+    public TaskDependencyService(TaskRepository taskRepository, ProjectRepository projectRepository, CacheInvalidationBus invalidationBus,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${dependencies.cache.max-projects:200}") int maxProjects) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.invalidationBus = invalidationBus;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // access-ordered, so the eldest entry is the least recently used project
+        this.graphs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DependencyGraph> eldest) {
+                return size() > maxProjects;
+            }
+        };
+
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            synchronized (graphs) {
+                version++;
+                if(CacheInvalidationBus.ALL.equals(key)) {
+                    graphs.clear();
+                } else {
+                    graphs.remove(Long.parseLong(key));
+                }
+            }
+        });
+    }
+
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> addDependency(Long projectId, Long taskId, Long dependsOnId) {
+        logger.info("Adding dependency of task ID: {} on task ID: {} in project ID: {}", taskId, dependsOnId, projectId);
+
+        DependencyGraph graph = graph(projectId);
+        if(!graph.contains(taskId) || !graph.contains(dependsOnId)) {
+            return ResponseHandler.notFound("Task not found in project.");
+        }
+        if(graph.wouldCreateCycle(taskId, dependsOnId)) {
+            return cycle(taskId, dependsOnId);
+        }
+
+        Boolean inserted = transaction.execute(status -> {
+            taskRepository.lockDependencies(projectId);
+            if(taskRepository.dependencyPathExists(projectId, taskId, dependsOnId)) {
+                return false;
+            }
+            taskRepository.insertDependency(projectId, taskId, dependsOnId);
+            return true;
+        });
+        if(!Boolean.TRUE.equals(inserted)) {
+            // another node added the other half of the cycle; this graph is out of date
+            evict(projectId);
+            return cycle(taskId, dependsOnId);
+        }
+
+        try {
+            graph.addEdge(taskId, dependsOnId);
+        } catch (IllegalArgumentException e) {
+            evict(projectId);
+        }
+        invalidationBus.publish(CACHE_NAME, projectId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResponseHandler.success("Dependency added.", schedule(graph(projectId)), HttpStatus.CREATED.value()));
+    }
+
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> removeDependency(Long projectId, Long taskId, Long dependsOnId) {
+        logger.info("Removing dependency of task ID: {} on task ID: {} in project ID: {}", taskId, dependsOnId, projectId);
+
+        Integer deleted = transaction.execute(status -> taskRepository.deleteDependency(projectId, taskId, dependsOnId));
+        if(deleted == null || deleted == 0) {
+            return ResponseHandler.notFound("Dependency not found.");
+        }
+
+        DependencyGraph graph = graph(projectId);
+        graph.removeEdge(taskId, dependsOnId);
+        invalidationBus.publish(CACHE_NAME, projectId);
+
+        return ResponseEntity.ok(ResponseHandler.success("Dependency removed.", schedule(graph), HttpStatus.OK.value()));
+    }
+
+    public ResponseEntity<ResponseHandler<ProjectScheduleResponse>> getSchedule(Long projectId) {
+        if(!projectRepository.existsById(projectId)) {
+            return ResponseHandler.notFound("Project not found.");
+        }
+        return ResponseEntity.ok(ResponseHandler.success("Project schedule fetched.", schedule(graph(projectId)), HttpStatus.OK.value()));
+    }
+
+    // task created or its status changed; only a graph that is already loaded is updated
+    public void taskSaved(Task task) {
+        DependencyGraph graph = cachedGraph(task.getProjectId());
+        if(graph != null) {
+            graph.putTask(new DependencyGraph.TaskNode(task.getId(), task.getTitle(), task.getDueDate(), task.getStatus() == TaskStatus.DONE));
+        }
+        invalidationBus.publish(CACHE_NAME, task.getProjectId());
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        DependencyGraph graph = cachedGraph(projectId);
+        if(graph != null) {
+            graph.removeTask(taskId);
+        }
+        invalidationBus.publish(CACHE_NAME, projectId);
+    }
+
+    public void invalidate(Long projectId) {
+        evict(projectId);
+        invalidationBus.publish(CACHE_NAME, projectId);
+    }
+
+    // bulk paths (archiving)
+    public void invalidateAll() {
+        synchronized (graphs) {
+            version++;
+            graphs.clear();
+        }
+        invalidationBus.publishAll(CACHE_NAME);
+    }
+
+    private DependencyGraph cachedGraph(Long projectId) {
+        synchronized (graphs) {
+            version++;
+            return graphs.get(projectId);
+        }
+    }
+
+    private void evict(Long projectId) {
+        synchronized (graphs) {
+            version++;
+            graphs.remove(projectId);
+        }
+    }
+
+    private DependencyGraph graph(Long projectId) {
+        long loadVersion;
+        synchronized (graphs) {
+            DependencyGraph graph = graphs.get(projectId);
+            if(graph != null) {
+                return graph;
+            }
+            loadVersion = version;
+        }
+
+        DependencyGraph loaded = readOnlyTransaction.execute(status -> load(projectId));
+
+        synchronized (graphs) {
+            // a task write raced with the load; serve the graph but do not keep it
+            if(version == loadVersion) {
+                graphs.put(projectId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private DependencyGraph load(Long projectId) {
+        long start = System.currentTimeMillis();
+
+        List<DependencyGraph.TaskNode> tasks = taskRepository.findDependencyNodesByProjectId(projectId).stream()
+                .map(row -> new DependencyGraph.TaskNode(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        row[2] != null ? ((Date) row[2]).toLocalDate() : null,
+                        TaskStatus.DONE.name().equals(row[3])))
+                .toList();
+        List<long[]> edges = taskRepository.findDependencyEdgesByProjectId(projectId).stream()
+                .map(row -> new long[] {((Number) row[0]).longValue(), ((Number) row[1]).longValue()})
+                .toList();
+
+        DependencyGraph graph = DependencyGraph.build(tasks, edges);
+        logger.info("Loaded dependency graph of project ID: {} - {} tasks, {} dependencies in {} ms",
+                projectId, tasks.size(), edges.size(), System.currentTimeMillis() - start);
+        return graph;
+    }
+
+    private static ProjectScheduleResponse schedule(DependencyGraph graph) {
+        DependencyGraph.Schedule schedule = graph.schedule();
+        return new ProjectScheduleResponse(schedule.projectFinish(), schedule.criticalPath(), schedule.delayed());
+    }
+
+    private static ResponseEntity<ResponseHandler<ProjectScheduleResponse>> cycle(Long taskId, Long dependsOnId) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ResponseHandler.error("Task " + dependsOnId + " already depends on task " + taskId + "; the dependency would create a cycle.",
+                        HttpStatus.CONFLICT.value()));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every task of a manager's projects straight from a forward-only JDBC cursor
+ * to the (gzipped) response, so heap usage stays flat no matter how many rows are exported.
+ */
+@Service
+public class TaskExportService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String EXPORT_SQL = """
+        SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date,
+               p.id AS project_id, p.name AS project_name,
+               u.id AS member_id, u.name AS member_name
+        FROM tasks t
+        JOIN projects p ON t.project_id = p.id
+        LEFT JOIN users u ON t.assigned_to = u.id
+        WHERE p.manager_id = ?
+        AND p.deleted_at IS NULL
+        ORDER BY t.id
+        """;
+
+    private static final String[] COLUMNS = {
+            "id", "title", "description", "status", "priority", "dueDate",
+            "projectId", "projectName", "memberId", "memberName"
+    };
+
+    // 1-based positions of id, project_id and member_id
+    private static final Set<Integer> NUMERIC_COLUMNS = Set.of(1, 7, 9);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportService(DataSource dataSource, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                             @Value("${export.fetch.size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+
+        // PostgreSQL only honours the fetch size (server-side cursor) when auto-commit is off
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody exportTasksByManagerId(Long managerId, ExportFormat format) {
+        logger.info("Exporting tasks as {} for manager ID: {}", format, managerId);
+
+        return outputStream -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            long rows = switch (format) {
+                case NDJSON -> writeNdjson(managerId, writer);
+                case CSV -> writeCsv(managerId, writer);
+            };
+
+            writer.flush();
+            gzip.finish();
+
+            logger.info("Exported {} tasks as {} for manager ID: {}", rows, format, managerId);
+        };
+    }
+
+    private long writeNdjson(Long managerId, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+
+        long rows = stream(managerId, rs -> {
+            generator.writeStartObject();
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                String value = rs.getString(i);
+                if (value == null) {
+                    generator.writeNullField(COLUMNS[i - 1]);
+                } else if (NUMERIC_COLUMNS.contains(i)) {
+                    generator.writeFieldName(COLUMNS[i - 1]);
+                    generator.writeNumber(value);
+                } else {
+                    generator.writeStringField(COLUMNS[i - 1], value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        });
+
+        generator.flush();
+        return rows;
+    }
+
+    private long writeCsv(Long managerId, Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+
+        return stream(managerId, rs -> {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, rs.getString(i));
+            }
+            writer.write('\n');
+        });
+    }
+
+    private long stream(Long managerId, RowWriter rowWriter) {
+        long[] rows = {0};
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(EXPORT_SQL, ps -> ps.setLong(1, managerId), rs -> {
+            try {
+                rowWriter.write(rs);
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        return rows[0];
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.TaskResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of the per-member task feed ({@code /members/tasks/my}). Single-task writes in
+ * {@link TaskService} patch the cached feed in place; bulk paths (project deletion, archiving) clear it.
+ * Entries also expire after {@code feed.cache.ttl-ms}, which bounds how long another node's writes can
+ * stay invisible here.
+ * <p>
+ * Writes are also published on the {@link CacheInvalidationBus}, and the other nodes drop the affected
+ * feeds; the TTL then only covers lost invalidation messages.
+ * <p>
+ * A load that races with a write is not cached: every write bumps a version, and a feed read from the
+ * database is only stored if no write happened while it was being read.
+ * Hits, misses and evictions are published as {@code taskflow.feed.cache.*} meters.
+ */
+@Component
+public class TaskFeedCache {
+
+    private static final String CACHE_NAME = "feed";
+
+    // the TaskResponse fields a cached feed has; projectName and assignedTo are not kept
+    public static final Set<String> FIELDS = Set.of("id", "taskTitle", "description", "dueDate", "status", "priority");
+
+    private record Entry(List<TaskResponse> tasks, long loadedAt) {}
+
+    private final Map<Long, Entry> feeds;
+    private final long ttlMs;
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final CacheInvalidationBus invalidationBus;
+    private long version;
+
+    public TaskFeedCache(MeterRegistry meterRegistry, CacheInvalidationBus invalidationBus,
+                         @Value("${feed.cache.enabled:true}") boolean enabled,
+                         @Value("${feed.cache.max-members:10000}") int maxMembers,
+                         @Value("${feed.cache.ttl-ms:30000}") long ttlMs) {
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        this.invalidationBus = invalidationBus;
+        this.hits = meterRegistry.counter("taskflow.feed.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("taskflow.feed.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("taskflow.feed.cache.evictions");
+
+        // access-ordered, so the eldest entry is the least recently read feed
+        this.feeds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if(size() > maxMembers) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("taskflow.feed.cache.size", this, TaskFeedCache::size).register(meterRegistry);
+        invalidationBus.subscribe(CACHE_NAME, this::evict);
+    }
+
+    /**
+     * Returns the cached feed of {@code memberId}, loading and caching it on a miss.
+     * The returned list is unmodifiable.
+     */
+    public List<TaskResponse> get(Long memberId, Supplier<List<TaskResponse>> loader) {
+        if(!enabled) {
+            return loader.get();
+        }
+
+        long loadVersion;
+        synchronized (this) {
+            Entry entry = feeds.get(memberId);
+            if(entry != null && System.currentTimeMillis() - entry.loadedAt() < ttlMs) {
+                hits.increment();
+                return entry.tasks();
+            }
+            misses.increment();
+            loadVersion = version;
+        }
+
+        List<TaskResponse> tasks = List.copyOf(loader.get());
+
+        synchronized (this) {
+            if(version == loadVersion) {
+                feeds.put(memberId, new Entry(tasks, System.currentTimeMillis()));
+            }
+        }
+        return tasks;
+    }
+
+    // cached feed or null, without loading; used by fields= requests, which read a projection on a miss
+    public synchronized List<TaskResponse> getIfPresent(Long memberId) {
+        Entry entry = enabled ? feeds.get(memberId) : null;
+        if(entry != null && System.currentTimeMillis() - entry.loadedAt() < ttlMs) {
+            hits.increment();
+            return entry.tasks();
+        }
+        misses.increment();
+        return null;
+    }
+
+    // adds a task to the feed, or replaces it when the feed already has a task with the same id
+    public synchronized void put(Long memberId, TaskResponse task) {
+        version++;
+        invalidationBus.publish(CACHE_NAME, memberId);
+        Entry entry = feeds.get(memberId);
+        if(entry == null) {
+            return;
+        }
+
+        List<TaskResponse> tasks = new ArrayList<>(entry.tasks().size() + 1);
+        boolean replaced = false;
+        for (TaskResponse cached : entry.tasks()) {
+            if(cached.getId().equals(task.getId())) {
+                tasks.add(task);
+                replaced = true;
+            } else {
+                tasks.add(cached);
+            }
+        }
+        if(!replaced) {
+            tasks.add(task);
+        }
+
+        feeds.put(memberId, new Entry(List.copyOf(tasks), entry.loadedAt()));
+    }
+
+    public synchronized void remove(Long memberId, Long taskId) {
+        version++;
+        invalidationBus.publish(CACHE_NAME, memberId);
+        Entry entry = feeds.get(memberId);
+        if(entry == null) {
+            return;
+        }
+
+        List<TaskResponse> tasks = entry.tasks().stream().filter(cached -> !cached.getId().equals(taskId)).toList();
+        feeds.put(memberId, new Entry(tasks, entry.loadedAt()));
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        invalidationBus.publishAll(CACHE_NAME);
+        feeds.clear();
+    }
+
+    // a write on another node; drops the feed instead of patching it, and is not published again
+    private synchronized void evict(String memberId) {
+        version++;
+        if(CacheInvalidationBus.ALL.equals(memberId)) {
+            feeds.clear();
+        } else {
+            feeds.remove(Long.parseLong(memberId));
+        }
+    }
+
+    public synchronized int size() {
+        return feeds.size();
+    }
+}
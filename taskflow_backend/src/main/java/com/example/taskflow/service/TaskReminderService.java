@@ -0,0 +1,245 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.utils.HierarchicalTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Sends due-soon reminders to assignees ({@code reminder.lead-hours} before the due date) and overdue
+ * escalations to project managers (the day after). Deadlines live in a {@link HierarchicalTimingWheel}:
+ * it is filled from one indexed range query over the next {@code reminder.horizon-days} every
+ * {@code reminder.reload-ms} and kept current by {@link TaskService} on every create, status change
+ * and delete, so the minute tick never touches the database unless something is due.
+ * <p>
+ * Every node keeps its own wheel. A reminder is claimed by flipping {@code reminder_sent_at} /
+ * {@code escalated_at} from NULL, so only the node whose UPDATE wins sends it; everything claimed in one
+ * tick is grouped into a single digest per recipient. A digest that fails to send hands its claims back.
+ */
+@Service
+public class TaskReminderService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskReminderService.class);
+
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 3;
+    private static final long RETRY_DELAY_MS = 5 * 60_000L;
+
+    enum Kind { DUE_SOON, OVERDUE }
+
+    record Reminder(Long taskId, Long projectId, Kind kind) {}
+
+    private final TaskRepository taskRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimingWheel<Reminder> wheel;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final boolean enabled;
+    private final int leadHours;
+    private final int horizonDays;
+    private final int lookbackDays;
+    private final int batchSize;
+
+    public TaskReminderService(TaskRepository taskRepository, @Lazy EmailService emailService, PlatformTransactionManager transactionManager,
+                               @Value("${reminder.enabled:true}") boolean enabled,
+                               @Value("${reminder.tick-ms:60000}") long tickMs,
+                               @Value("${reminder.lead-hours:24}") int leadHours,
+                               @Value("${reminder.horizon-days:2}") int horizonDays,
+                               @Value("${reminder.lookback-days:7}") int lookbackDays,
+                               @Value("${reminder.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+        this.enabled = enabled;
+        this.leadHours = leadHours;
+        this.horizonDays = horizonDays;
+        this.lookbackDays = lookbackDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.reload-ms:21600000}", initialDelayString = "${reminder.initial-delay-ms:30000}")
+    public void loadUpcoming() {
+        if(!enabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(zone);
+        List<Object[]> rows = taskRepository.findPendingReminders(today.minusDays(lookbackDays), today.plusDays(horizonDays));
+
+        for (Object[] row : rows) {
+            Long taskId = ((Number) row[0]).longValue();
+            Long projectId = ((Number) row[1]).longValue();
+            LocalDate dueDate = ((Date) row[2]).toLocalDate();
+
+            if((Boolean) row[3]) {
+                wheel.schedule(new Reminder(taskId, projectId, Kind.DUE_SOON), remindAt(dueDate));
+            }
+            wheel.schedule(new Reminder(taskId, projectId, Kind.OVERDUE), escalateAt(dueDate));
+        }
+
+        logger.info("Loaded {} pending task reminders due until {} ({} scheduled)", rows.size(), today.plusDays(horizonDays), wheel.size());
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.tick-ms:60000}")
+    public void sendDueReminders() {
+        if(!enabled) {
+            return;
+        }
+
+        List<Reminder> due = wheel.advance(System.currentTimeMillis());
+        if(due.isEmpty()) {
+            return;
+        }
+
+        List<Reminder> dueSoon = due.stream().filter(reminder -> reminder.kind() == Kind.DUE_SOON).toList();
+        List<Reminder> overdue = due.stream().filter(reminder -> reminder.kind() == Kind.OVERDUE).toList();
+
+        sendDigests(dueSoon, taskRepository::claimReminders, taskRepository::releaseReminders, TaskReminderService::reminderDigest);
+        sendDigests(overdue, taskRepository::claimEscalations, taskRepository::releaseEscalations, TaskReminderService::escalationDigest);
+    }
+
+    // called by TaskService after a task is saved; keeps this node's wheel in step without a reload
+    public void taskSaved(Task task) {
+        if(!enabled || task.getId() == null) {
+            return;
+        }
+
+        if(task.getDueDate() == null || task.getStatus() == TaskStatus.DONE) {
+            taskDeleted(task);
+            return;
+        }
+
+        wheel.schedule(new Reminder(task.getId(), task.getProjectId(), Kind.DUE_SOON), remindAt(task.getDueDate()));
+        wheel.schedule(new Reminder(task.getId(), task.getProjectId(), Kind.OVERDUE), escalateAt(task.getDueDate()));
+    }
+
+    public void taskDeleted(Task task) {
+        if(!enabled || task.getId() == null) {
+            return;
+        }
+
+        wheel.cancel(new Reminder(task.getId(), task.getProjectId(), Kind.DUE_SOON));
+        wheel.cancel(new Reminder(task.getId(), task.getProjectId(), Kind.OVERDUE));
+    }
+
+    private void sendDigests(List<Reminder> reminders,
+                             BiFunction<Set<Long>, Set<Long>, List<Object[]>> claim,
+                             BiFunction<Set<Long>, Set<Long>, Integer> release,
+                             Function<List<Object[]>, Digest> writer) {
+        if(reminders.isEmpty()) {
+            return;
+        }
+
+        // everything is claimed first, so a recipient gets one digest however many batches it took
+        List<Object[]> claimed = new ArrayList<>();
+        for (int from = 0; from < reminders.size(); from += batchSize) {
+            List<Reminder> batch = reminders.subList(from, Math.min(from + batchSize, reminders.size()));
+            List<Object[]> rows = transactionTemplate.execute(status -> claim.apply(taskIds(batch), projectIds(batch)));
+            if(rows != null) {
+                claimed.addAll(rows);
+            }
+        }
+
+        // recipient email (column 4) -> claimed rows
+        Map<String, List<Object[]>> byRecipient = new LinkedHashMap<>();
+        for (Object[] row : claimed) {
+            byRecipient.computeIfAbsent((String) row[4], email -> new ArrayList<>()).add(row);
+        }
+
+        int sent = 0;
+        for (Map.Entry<String, List<Object[]>> digest : byRecipient.entrySet()) {
+            List<Object[]> rows = digest.getValue();
+            try {
+                Digest mail = writer.apply(rows);
+                emailService.sendEmail(digest.getKey(), mail.subject(), mail.body());
+                sent++;
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send reminder digest to {} - retrying {} tasks later", digest.getKey(), rows.size(), e);
+                retry(rows, reminders, release);
+            }
+        }
+
+        if(sent > 0) {
+            logger.info("Sent {} reminder digests covering {} tasks", sent, claimed.size());
+        }
+    }
+
+    private void retry(List<Object[]> rows, List<Reminder> reminders, BiFunction<Set<Long>, Set<Long>, Integer> release) {
+        Set<Long> failed = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            failed.add(((Number) row[0]).longValue());
+        }
+
+        List<Reminder> retried = reminders.stream().filter(reminder -> failed.contains(reminder.taskId())).toList();
+        transactionTemplate.execute(status -> release.apply(taskIds(retried), projectIds(retried)));
+
+        long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+        retried.forEach(reminder -> wheel.schedule(reminder, retryAt));
+    }
+
+    private static Set<Long> taskIds(List<Reminder> reminders) {
+        Set<Long> ids = new LinkedHashSet<>();
+        reminders.forEach(reminder -> ids.add(reminder.taskId()));
+        return ids;
+    }
+
+    private static Set<Long> projectIds(List<Reminder> reminders) {
+        Set<Long> ids = new LinkedHashSet<>();
+        reminders.forEach(reminder -> ids.add(reminder.projectId()));
+        return ids;
+    }
+
+    private static Digest reminderDigest(List<Object[]> rows) {
+        String subject = rows.size() == 1 ? "Task due soon: " + rows.get(0)[1] : rows.size() + " tasks due soon";
+
+        StringBuilder body = new StringBuilder("Hi ").append(rows.get(0)[5]).append(",\n\nThese tasks are due soon:\n");
+        for (Object[] row : rows) {
+            body.append(" - ").append(row[1]).append(" (").append(row[3]).append(") - due ").append(row[2]).append('\n');
+        }
+        return new Digest(subject, body.append("\nTaskflow").toString());
+    }
+
+    private static Digest escalationDigest(List<Object[]> rows) {
+        String subject = rows.size() == 1 ? "Overdue task: " + rows.get(0)[1] : rows.size() + " overdue tasks in your projects";
+
+        StringBuilder body = new StringBuilder("Hi ").append(rows.get(0)[5]).append(",\n\nThese tasks in your projects are overdue:\n");
+        for (Object[] row : rows) {
+            body.append(" - ").append(row[1]).append(" (").append(row[3]);
+            if(row[6] != null) {
+                body.append(", assigned to ").append(row[6]);
+            }
+            body.append(") - was due ").append(row[2]).append('\n');
+        }
+        return new Digest(subject, body.append("\nTaskflow").toString());
+    }
+
+    private long remindAt(LocalDate dueDate) {
+        return dueDate.atStartOfDay(zone).minusHours(leadHours).toInstant().toEpochMilli();
+    }
+
+    private long escalateAt(LocalDate dueDate) {
+        return dueDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private record Digest(String subject, String body) {}
+}
@@ -0,0 +1,127 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.config.ReplicaRead;
+import com.example.taskflow.dto.PageResponse;
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.utils.ResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over task titles and descriptions, backed by the {@code tasks.search_vector} GIN index.
+ * Results are ranked with {@code ts_rank_cd} (title matches weigh more than description matches) and the
+ * last search term is prefix-matched, so partially typed words already find results.
+ */
+@Service
+public class TaskSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchService.class);
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+
+    public TaskSearchService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<PageResponse<TaskResponse>>> searchByManagerId(String query, Long managerId, int page, int size) {
+        logger.info("Searching tasks for manager ID: {} - query: '{}'", managerId, query);
+
+        String tsQuery = toTsQuery(query);
+        if(tsQuery == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error("Search query cannot be empty.", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        int limit = pageSize(size);
+        int offset = Math.max(page, 0) * limit;
+
+        // one extra row tells whether there is a next page without counting all matches
+        List<Object[]> rows = taskRepository.searchByManagerId(tsQuery, managerId, limit + 1, offset);
+        return ResponseEntity.ok(ResponseHandler.success("Tasks fetched successfully.", toPage(rows, page, limit), HttpStatus.OK.value()));
+    }
+
+    @Transactional(readOnly = true)
+    @ReplicaRead
+    public ResponseEntity<ResponseHandler<PageResponse<TaskResponse>>> searchByProjectId(String query, Long projectId, Long managerId, int page, int size) {
+        logger.info("Searching tasks for project ID: {} - query: '{}'", projectId, query);
+
+        String tsQuery = toTsQuery(query);
+        if(tsQuery == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error("Search query cannot be empty.", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        int limit = pageSize(size);
+        int offset = Math.max(page, 0) * limit;
+
+        List<Object[]> rows = taskRepository.searchByProjectId(tsQuery, projectId, managerId, limit + 1, offset);
+        return ResponseEntity.ok(ResponseHandler.success("Tasks fetched successfully.", toPage(rows, page, limit), HttpStatus.OK.value()));
+    }
+
+    /**
+     * Turns free text into a {@code to_tsquery} expression: every word must match and the last one is
+     * treated as a prefix ({@code "deploy serv"} becomes {@code "deploy & serv:*"}). Only letters and
+     * digits are kept, so user input can never inject tsquery operators. Returns null when nothing is left.
+     */
+    static String toTsQuery(String input) {
+        if(input == null) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TERM.matcher(input.toLowerCase(Locale.ROOT));
+        while (matcher.find() && terms.size() < MAX_TERMS) {
+            terms.add(matcher.group());
+        }
+
+        if(terms.isEmpty()) {
+            return null;
+        }
+
+        return String.join(" & ", terms) + ":*";
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static PageResponse<TaskResponse> toPage(List<Object[]> rows, int page, int size) {
+        boolean hasNext = rows.size() > size;
+        List<TaskResponse> items = rows.stream().limit(size).map(TaskSearchService::toResponse).toList();
+        return new PageResponse<>(items, Math.max(page, 0), size, hasNext);
+    }
+
+    private static TaskResponse toResponse(Object[] row) {
+        return new TaskResponse(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                toLocalDate(row[3]),
+                row[4] != null ? TaskStatus.valueOf((String) row[4]) : null,
+                row[5] != null ? PriorityType.valueOf((String) row[5]) : null,
+                (String) row[6],
+                (String) row[7]);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.config.ReplicaRead;
+import com.example.taskflow.dto.BulkTaskRequest;
 import com.example.taskflow.dto.TaskRequest;
 import com.example.taskflow.dto.TaskResponse;
 import com.example.taskflow.dto.TaskStatsDTO;
@@ -9,19 +11,36 @@ import com.example.taskflow.entity.User;
 import com.example.taskflow.enums.PriorityType;
 import com.example.taskflow.enums.TaskStatus;
 import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.SparseProjectionRepository;
 import com.example.taskflow.repository.TaskRepository;
 import com.example.taskflow.repository.UserRepository;
 import com.example.taskflow.utils.ResponseHandler;
+import com.example.taskflow.utils.SingleFlight;
+import com.example.taskflow.utils.SparseFields;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class TaskService {
@@ -30,27 +49,66 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-
-    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, UserRepository userRepository) {
+    private final TaskReminderService taskReminderService;
+    private final TaskFeedCache taskFeedCache;
+    private final TaskDependencyService taskDependencyService;
+    private final TaskAssignmentService taskAssignmentService;
+    private final TaskTransitionLog taskTransitionLog;
+    private final BurndownService burndownService;
+    private final SparseProjectionRepository sparseProjectionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<Long, List<Object[]>> taskStatsFlight;
+
+    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, UserRepository userRepository,
+                       TaskReminderService taskReminderService, TaskFeedCache taskFeedCache, TaskDependencyService taskDependencyService,
+                       TaskAssignmentService taskAssignmentService, TaskTransitionLog taskTransitionLog, BurndownService burndownService, SparseProjectionRepository sparseProjectionRepository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${singleflight.ttl-ms:1000}") long singleFlightTtlMs) {
         this.taskRepository = taskRepository;
+        this.sparseProjectionRepository = sparseProjectionRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.taskReminderService = taskReminderService;
+        this.taskFeedCache = taskFeedCache;
+        this.taskDependencyService = taskDependencyService;
+        this.taskAssignmentService = taskAssignmentService;
+        this.taskTransitionLog = taskTransitionLog;
+        this.burndownService = burndownService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskStatsFlight = new SingleFlight<>("taskStatsByManager", singleFlightTtlMs, meterRegistry);
     }
 
+    @Transactional
     public ResponseEntity<ResponseHandler<TaskResponse>> create(Long projectId, TaskRequest request) {
         logger.info("Creating task '{}' for project ID: {}, assigned to member ID: {}", 
-                request.getTaskTitle(), projectId, request.getMemberId());
+                request.getTaskTitle(), projectId, request.isAutoAssign() ? "auto" : request.getMemberId());
         
         Optional<Project> optProject = projectRepository.findById(projectId);
-        Optional<User> optMember = userRepository.findById(request.getMemberId());
 
         if(optProject.isEmpty()) {
             logger.warn("Task creation failed - project not found: {}", projectId);
             return ResponseHandler.notFound("Project not found.");
         }
 
+        TaskStatus status = TaskStatus.valueOf(request.getStatus().toUpperCase());
+        PriorityType priority = PriorityType.valueOf(request.getPriority().toUpperCase());
+        boolean autoAssigned = request.isAutoAssign();
+        Long memberId = autoAssigned ? taskAssignmentService.assign(projectId, status, priority) : request.getMemberId();
+
+        if(memberId == null) {
+            logger.warn("Task creation failed - no active members to assign in project: {}", projectId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseHandler.error("No active members to assign the task to.", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        Optional<User> optMember = userRepository.findById(memberId);
+
         if(optMember.isEmpty()) {
-            logger.warn("Task creation failed - member not found: {}", request.getMemberId());
+            logger.warn("Task creation failed - member not found: {}", memberId);
+            if(autoAssigned) {
+                // the heap already counts the task and nothing rolls back
+                taskAssignmentService.invalidate(projectId);
+            }
             return ResponseHandler.notFound("Member not found.");
         }
 
@@ -58,7 +116,7 @@ public class TaskService {
         Project project = optProject.get();
 
         // Validate that member belongs to the project
-        if(!project.getMembers().contains(member)) {
+        if(!autoAssigned && !projectRepository.isMember(project.getId(), member.getId())) {
             logger.warn("Task creation failed - member ID {} is not part of project ID {}", 
                     member.getId(), project.getId());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -70,12 +128,26 @@ public class TaskService {
         task.setTitle(request.getTaskTitle());
         task.setDescription(request.getDescription());
         task.setDueDate(request.getDueDate());
-        task.setStatus(TaskStatus.valueOf(request.getStatus().toUpperCase()));
-        task.setPriority(PriorityType.valueOf(request.getPriority().toUpperCase()));
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setStartedAt(task.getStatus() == TaskStatus.IN_PROGRESS ? task.getCreatedAt() : null);
+        task.setCompletedAt(task.getStatus() == TaskStatus.DONE ? task.getCreatedAt() : null);
+        task.setProjectId(project.getId());
         task.setProject(project);
         task.setMember(member);
 
         taskRepository.save(task);
+        taskTransitionLog.record(task, null, null);
+        burndownService.statusChanged(projectId, null, task.getStatus());
+        afterCommit(() -> {
+            taskReminderService.taskSaved(task);
+            taskDependencyService.taskSaved(task);
+            if(!autoAssigned) {
+                taskAssignmentService.taskSaved(task, 0);
+            }
+            taskFeedCache.put(member.getId(), new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority()));
+        });
 
         logger.info("Task created successfully - ID: {}, Title: {}, Project: {}, Member: {}", 
                 task.getId(), task.getTitle(), project.getName(), member.getName());
@@ -84,18 +156,135 @@ public class TaskService {
         return ResponseEntity.status(HttpStatus.CREATED).body(ResponseHandler.success("Task created successfully.", response, HttpStatus.CREATED.value()));
     }
 
-    public ResponseEntity<ResponseHandler<List<TaskResponse>>> viewTasks(Long memberId) {
+    /**
+     * Creates every task with one insert. Tasks with autoAssign set are spread over the project's active
+     * members by open load in memory; the others must name a member of the project.
+     */
+    @Transactional
+    public ResponseEntity<ResponseHandler<List<TaskResponse>>> createAll(Long projectId, BulkTaskRequest request) {
+        List<TaskRequest> requests = request.getTasks();
+        logger.info("Creating {} tasks for project ID: {}", requests.size(), projectId);
+
+        Optional<Project> optProject = projectRepository.findById(projectId);
+
+        if(optProject.isEmpty()) {
+            logger.warn("Bulk task creation failed - project not found: {}", projectId);
+            return ResponseHandler.notFound("Project not found.");
+        }
+
+        Project project = optProject.get();
+        List<TaskStatus> statuses = requests.stream().map(task -> TaskStatus.valueOf(task.getStatus().toUpperCase())).toList();
+        List<PriorityType> priorities = requests.stream().map(task -> PriorityType.valueOf(task.getPriority().toUpperCase())).toList();
+
+        Set<Long> namedMemberIds = requests.stream().filter(task -> !task.isAutoAssign()).map(TaskRequest::getMemberId).collect(Collectors.toSet());
+        if(!namedMemberIds.isEmpty() && projectRepository.findMemberIds(projectId, namedMemberIds).size() < namedMemberIds.size()) {
+            logger.warn("Bulk task creation failed - members are not part of project ID {}", projectId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseHandler.error("Member is not part of this project", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        List<Integer> autoIndexes = IntStream.range(0, requests.size()).filter(i -> requests.get(i).isAutoAssign()).boxed().toList();
+        Long[] memberIds = requests.stream().map(TaskRequest::getMemberId).toArray(Long[]::new);
+        if(!autoIndexes.isEmpty()) {
+            List<Long> assigned = taskAssignmentService.assignAll(projectId,
+                    autoIndexes.stream().map(statuses::get).toList(), autoIndexes.stream().map(priorities::get).toList());
+            if(assigned == null) {
+                logger.warn("Bulk task creation failed - no active members to assign in project: {}", projectId);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ResponseHandler.error("No active members to assign the task to.", HttpStatus.BAD_REQUEST.value()));
+            }
+            for (int i = 0; i < autoIndexes.size(); i++) {
+                memberIds[autoIndexes.get(i)] = assigned.get(i);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(requests.size());
+        List<Long> ids = taskRepository.nextIds(requests.size());
+        Map<Long, User> members = userRepository.findAllById(Arrays.stream(memberIds).collect(Collectors.toSet())).stream().collect(Collectors.toMap(User::getId, user -> user));
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest taskRequest = requests.get(i);
+            Task task = new Task();
+            task.setId(ids.get(i));
+            task.setTitle(taskRequest.getTaskTitle());
+            task.setDescription(taskRequest.getDescription());
+            task.setDueDate(taskRequest.getDueDate());
+            task.setStatus(statuses.get(i));
+            task.setPriority(priorities.get(i));
+            task.setCreatedAt(now);
+            task.setStartedAt(task.getStatus() == TaskStatus.IN_PROGRESS ? now : null);
+            task.setCompletedAt(task.getStatus() == TaskStatus.DONE ? now : null);
+            task.setProjectId(project.getId());
+            task.setProject(project);
+            task.setMember(members.get(memberIds[i]));
+            tasks.add(task);
+        }
+
+        // a failure rolls back, and with it the heap drops the auto-assigned tasks
+        taskRepository.insertAll(projectId, now,
+                tasks.stream().map(Task::getId).toArray(Long[]::new),
+                tasks.stream().map(Task::getTitle).toArray(String[]::new),
+                tasks.stream().map(Task::getDescription).toArray(String[]::new),
+                tasks.stream().map(task -> task.getStatus().name()).toArray(String[]::new),
+                tasks.stream().map(task -> task.getPriority().name()).toArray(String[]::new),
+                tasks.stream().map(Task::getDueDate).toArray(LocalDate[]::new),
+                tasks.stream().map(Task::getCompletedAt).toArray(LocalDateTime[]::new),
+                tasks.stream().map(Task::getStartedAt).toArray(LocalDateTime[]::new),
+                memberIds);
+
+        burndownService.tasksCreated(projectId, statuses);
+        List<TaskResponse> response = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            taskTransitionLog.record(task, null, null);
+            response.add(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority(), project.getName(), task.getMember().getName()));
+        }
+        afterCommit(() -> {
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                taskReminderService.taskSaved(task);
+                taskDependencyService.taskSaved(task);
+                if(!requests.get(i).isAutoAssign()) {
+                    taskAssignmentService.taskSaved(task, 0);
+                }
+                taskFeedCache.put(task.getMember().getId(), new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority()));
+            }
+        });
+
+        logger.info("Created {} tasks in project ID: {} ({} auto-assigned)", tasks.size(), projectId, autoIndexes.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResponseHandler.success("Tasks created successfully.", response, HttpStatus.CREATED.value()));
+    }
+
+    // served from TaskFeedCache; the read-only transaction (and a connection) is only opened on a miss.
+    // With fields= a warm feed is trimmed in memory if it has every selected field; otherwise just those
+    // columns are read as a projection.
+    public ResponseEntity<ResponseHandler<List<TaskResponse>>> viewTasks(Long memberId, String fields) {
         logger.info("Fetching tasks for member ID: {}", memberId);
-        
-        List<Task> tasks = taskRepository.findByMember_Id(memberId);
 
-        if(tasks.isEmpty()) {
+        List<SparseFields.Field<TaskResponse>> selection;
+        try {
+            selection = SparseProjectionRepository.TASK_FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseHandler.error(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
+        }
+
+        List<TaskResponse> response;
+        if(selection == null) {
+            response = taskFeedCache.get(memberId, () -> readOnlyTransaction.execute(status ->
+                    taskRepository.findByMember_Id(memberId).stream().map(task -> new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority())).toList()));
+        } else {
+            boolean cachedFields = selection.stream().allMatch(field -> TaskFeedCache.FIELDS.contains(field.name()));
+            List<TaskResponse> cached = cachedFields ? taskFeedCache.getIfPresent(memberId) : null;
+            response = cached != null
+                    ? cached.stream().map(task -> SparseProjectionRepository.TASK_FIELDS.copy(selection, task)).toList()
+                    : readOnlyTransaction.execute(status -> sparseProjectionRepository.findTasksByMemberId(memberId, selection));
+        }
+
+        if(response.isEmpty()) {
             logger.info("No tasks found for member ID: {}", memberId);
             return ResponseHandler.notFound("Tasks not found.");
         }
 
-        List<TaskResponse> response = tasks.stream().map(task -> new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority())).toList();
-
         logger.info("Fetched {} tasks for member ID: {}", response.size(), memberId);
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Tasks fetched successfully.", response, HttpStatus.OK.value()));
     }
@@ -111,13 +300,35 @@ public class TaskService {
         }
 
         Task task = optTask.get();
-        task.setStatus(TaskStatus.valueOf(status.toUpperCase()));
+        TaskStatus newStatus = TaskStatus.valueOf(status.toUpperCase());
+        TaskStatus previousStatus = task.getStatus();
+        long previousLoad = TaskAssignmentService.openLoad(task.getStatus(), task.getPriority());
+
+        if(newStatus == TaskStatus.DONE && task.getStatus() != TaskStatus.DONE) {
+            task.setCompletedAt(LocalDateTime.now());
+        } else if(newStatus != TaskStatus.DONE) {
+            task.setCompletedAt(null);
+        }
+        // cycle time runs from the first start; moving back to TODO does not reset it
+        if(newStatus == TaskStatus.IN_PROGRESS && task.getStartedAt() == null) {
+            task.setStartedAt(LocalDateTime.now());
+        }
+
+        task.setStatus(newStatus);
 
         taskRepository.save(task);
+        taskTransitionLog.record(task, previousStatus, memberId);
+        burndownService.statusChanged(task.getProjectId(), previousStatus, task.getStatus());
 
         logger.info("Task status updated successfully - Task ID: {}, New Status: {}", taskId, status);
         
         TaskResponse response = new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority());
+        afterCommit(() -> {
+            taskReminderService.taskSaved(task);
+            taskDependencyService.taskSaved(task);
+            taskAssignmentService.taskSaved(task, previousLoad);
+            taskFeedCache.put(memberId, response);
+        });
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Task status updated to "+status+".", response, HttpStatus.OK.value()));
     }
 
@@ -132,6 +343,7 @@ public class TaskService {
         }
 
         Task task = optTask.get();
+        long previousLoad = TaskAssignmentService.openLoad(task.getStatus(), task.getPriority());
         task.setPriority(PriorityType.valueOf(priority.toUpperCase()));
 
         taskRepository.save(task);
@@ -139,6 +351,10 @@ public class TaskService {
         logger.info("Task priority updated successfully - Task ID: {}, New Priority: {}", taskId, priority);
 
         TaskResponse response = new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus(), task.getPriority());
+        afterCommit(() -> {
+            taskAssignmentService.taskSaved(task, previousLoad);
+            taskFeedCache.put(memberId, response);
+        });
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Task priority updated to "+priority+".", response, HttpStatus.OK.value()));
     }
 
@@ -153,16 +369,29 @@ public class TaskService {
             return ResponseHandler.notFound("Task not found for this project.");
         }
 
-        taskRepository.delete(optTask.get());
+        Task task = optTask.get();
+        taskRepository.delete(task);
+        burndownService.statusChanged(projectId, task.getStatus(), null);
+        afterCommit(() -> {
+            taskReminderService.taskDeleted(task);
+            taskDependencyService.taskDeleted(projectId, taskId);
+            taskAssignmentService.taskDeleted(task);
+            if(task.getMember() != null) {
+                taskFeedCache.remove(task.getMember().getId(), taskId);
+            }
+        });
 
         logger.info("Task deleted successfully - Task ID: {}", taskId);
 
-        TaskResponse response = new TaskResponse(optTask.get().getId(), optTask.get().getTitle());
+        TaskResponse response = new TaskResponse(task.getId(), task.getTitle());
         return ResponseEntity.ok(ResponseHandler.success("Task deleted successfully.", response, HttpStatus.OK.value()));
     }
 
+    // no @Transactional: callers that join an in-flight query must not hold a connection while they wait
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<TaskStatsDTO>> getTaskStatsByManagerId(Long managerId) {
-        List<Object[]> results = taskRepository.findTaskStatsByManagerId(managerId);
+        List<Object[]> results = taskStatsFlight.execute(managerId,
+                () -> readOnlyTransaction.execute(status -> taskRepository.findTaskStatsByManagerId(managerId)));
 
         if(results.isEmpty()) {
             return ResponseHandler.notFound("No task stats found.");
@@ -177,4 +406,21 @@ public class TaskService {
         TaskStatsDTO response = new TaskStatsDTO(totalTasks, tasksInProgress, percentage);
         return ResponseEntity.ok(ResponseHandler.success("Task deleted successfully.", response, HttpStatus.OK.value()));
     }
+
+    // the reminder wheel, feed cache, dependency graphs and assignment heaps mirror the database, so they are
+    // only patched once the write commits; a rolled back transaction (e.g. a failed batch) leaves them as they were
+    private static void afterCommit(Runnable action) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Append-only log of task status changes in task_status_transitions. A change is queued in memory once
+ * the write that made it commits, and a scheduled flush writes the queue in batches of one INSERT each,
+ * so the request path never waits on the log. When the queue is full, changes are dropped and counted
+ * ({@code taskflow.transitions{result=dropped}}); what is still queued is written on shutdown.
+ */
+@Service
+public class TaskTransitionLog implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(TaskTransitionLog.class);
+
+    private record Transition(long taskId, long projectId, Long changedBy, LocalDateTime changedAt, TaskStatus from, TaskStatus to) {}
+
+    private final TaskRepository taskRepository;
+    private final CycleTimeService cycleTimeService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Transition> queue;
+    private final int batchSize;
+    private final Counter written;
+    private final Counter dropped;
+
+    public TaskTransitionLog(TaskRepository taskRepository, CycleTimeService cycleTimeService, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${transitions.queue-capacity:100000}") int queueCapacity,
+                             @Value("${transitions.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.cycleTimeService = cycleTimeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.written = meterRegistry.counter("taskflow.transitions", "result", "written");
+        this.dropped = meterRegistry.counter("taskflow.transitions", "result", "dropped");
+    }
+
+    // called after a task is saved; from is null for a new task, changedBy null when not made by the assignee
+    public void record(Task task, TaskStatus from, Long changedBy) {
+        if(task.getStatus() == from) {
+            return;
+        }
+
+        Transition transition = new Transition(task.getId(), task.getProjectId(), changedBy, LocalDateTime.now(), from, task.getStatus());
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            // afterCompletion rather than afterCommit: by then synchronization is cleared, so the cycle-time
+            // publish below goes out directly instead of registering a synchronization that never runs
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if(status == STATUS_COMMITTED) {
+                        committed(task, transition);
+                    }
+                }
+            });
+        } else {
+            committed(task, transition);
+        }
+    }
+
+    private void committed(Task task, Transition transition) {
+        if(!queue.offer(transition)) {
+            dropped.increment();
+        }
+        if(transition.from() == TaskStatus.DONE || transition.to() == TaskStatus.DONE) {
+            cycleTimeService.statusChanged(task, transition.to() == TaskStatus.DONE);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${transitions.flush-ms:1000}", initialDelayString = "${transitions.flush-ms:1000}")
+    public void flush() {
+        List<Transition> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> taskRepository.insertTransitions(
+                        batch.stream().map(Transition::taskId).toArray(Long[]::new),
+                        batch.stream().map(Transition::projectId).toArray(Long[]::new),
+                        batch.stream().map(Transition::changedBy).toArray(Long[]::new),
+                        batch.stream().map(Transition::changedAt).toArray(LocalDateTime[]::new),
+                        batch.stream().map(transition -> transition.from() != null ? transition.from().name() : null).toArray(String[]::new),
+                        batch.stream().map(transition -> transition.to().name()).toArray(String[]::new)));
+                written.increment(batch.size());
+            } catch (RuntimeException e) {
+                // the history has a gap; the tasks themselves are unaffected
+                dropped.increment(batch.size());
+                logger.error("Failed to write {} task status transitions: {}", batch.size(), e.toString());
+            }
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.RevokedToken;
+import com.example.taskflow.repository.RevokedTokenRepository;
+import com.example.taskflow.utils.BloomFilter;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side JWT revocation. A revoked token ID is first checked against an in-memory Bloom filter;
+ * only on a filter hit is the revocation confirmed against the database. "Log out everywhere" cut-offs
+ * are held in memory per user and compared with the token's issue time without a database read, as a
+ * filter hit on the user would send every request of that user to the database. Revocations made on other
+ * nodes are picked up by reading the rows revoked since the previous read, right away when the
+ * {@link CacheInvalidationBus} announces them and otherwise on the next poll. Each read reaches back
+ * {@code jwt.revocation.sync.overlap-ms} before the previous one, so rows that commit late or come from a
+ * node with a slightly different clock are still seen; row IDs are not used, as they do not commit in order.
+ */
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final String TOKEN_KEY = "t:";
+    private static final String CACHE_NAME = "revocation";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final long expirationTime;
+    private final long overlapMs;
+
+    private volatile BloomFilter filter;
+    // user ID -> latest "log out everywhere" cut-off; tokens issued at or before it are revoked
+    private volatile Map<Long, LocalDateTime> userCutoffs = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    // start of the previous read, and the rows it saw that the next read will return again
+    private LocalDateTime syncedAt;
+    private final Map<Long, LocalDateTime> recentlySeen = new HashMap<>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, CacheInvalidationBus invalidationBus,
+                                  @Value("${jwt.revocation.expected:100000}") int expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${jwt.expiration.ms}") long expirationTime,
+                                  @Value("${jwt.revocation.sync.overlap-ms:60000}") long overlapMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.expirationTime = expirationTime;
+        this.overlapMs = overlapMs;
+        this.invalidationBus = invalidationBus;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            if(running) {
+                sync();
+            }
+        });
+    }
+
+    // Loaded in the first lifecycle phase instead of @PostConstruct: still before the web server accepts
+    // requests, but after the deferred JPA bootstrap has had the rest of the context refresh to finish
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    public void revokeToken(Claims claims) {
+        if(claims.getId() == null) {
+            // tokens issued before revocation support carry no ID; fall back to the user-wide cut-off
+            revokeAllForUser(Long.parseLong(claims.getSubject()));
+            return;
+        }
+
+        Long userId = Long.parseLong(claims.getSubject());
+        if(revokedTokenRepository.insertIfAbsent(claims.getId(), userId, LocalDateTime.now(), toLocalDateTime(claims.getExpiration())) == 0) {
+            return;
+        }
+
+        filter.put(TOKEN_KEY + claims.getId());
+        invalidationBus.publishAll(CACHE_NAME);
+
+        logger.info("Token revoked - User ID: {}", userId);
+    }
+
+    public void revokeAllForUser(Long userId) {
+        // JWT "iat" has second precision; tokens issued in the same second as the revocation are revoked too
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        RevokedToken revoked = new RevokedToken();
+        revoked.setUserId(userId);
+        revoked.setRevokedAt(now);
+        revoked.setExpiresAt(now.plus(expirationTime, ChronoUnit.MILLIS));
+
+        revokedTokenRepository.save(revoked);
+        addCutoff(userCutoffs, revoked);
+        invalidationBus.publishAll(CACHE_NAME);
+
+        logger.info("All tokens revoked for user ID: {}", userId);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if(tokenId != null && filter.mightContain(TOKEN_KEY + tokenId) && revokedTokenRepository.existsByTokenId(tokenId)) {
+            return true;
+        }
+
+        LocalDateTime cutoff = userCutoffs.get(Long.parseLong(claims.getSubject()));
+        return cutoff != null && !toLocalDateTime(claims.getIssuedAt()).isAfter(cutoff);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync.ms:5000}", initialDelayString = "${jwt.revocation.sync.ms:5000}")
+    public synchronized void sync() {
+        if(syncedAt == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RevokedToken> revocations = revokedTokenRepository.findByRevokedAtGreaterThanEqual(overlapStart(syncedAt));
+
+        int added = 0;
+        for (RevokedToken revoked : revocations) {
+            if(recentlySeen.putIfAbsent(revoked.getId(), revoked.getRevokedAt()) == null) {
+                add(filter, userCutoffs, revoked);
+                added++;
+            }
+        }
+        forgetBefore(startedAt);
+
+        if(added > 0) {
+            logger.info("Synchronized {} token revocations", added);
+        }
+    }
+
+    // Bloom filters cannot forget keys, so expired revocations are purged and the filter and cut-offs rebuilt from scratch
+    @Scheduled(cron = "${jwt.revocation.purge.cron:0 0 * * * *}")
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        logger.info("Purged {} expired token revocations", purged);
+        rebuild();
+    }
+
+    private synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+        Map<Long, LocalDateTime> rebuiltCutoffs = new ConcurrentHashMap<>();
+
+        for (RevokedToken revoked : revokedTokenRepository.findAll()) {
+            add(rebuilt, rebuiltCutoffs, revoked);
+            recentlySeen.put(revoked.getId(), revoked.getRevokedAt());
+        }
+
+        filter = rebuilt;
+        userCutoffs = rebuiltCutoffs;
+        forgetBefore(startedAt);
+    }
+
+    // the next read starts at startedAt minus the overlap; rows revoked before that are not returned again
+    private void forgetBefore(LocalDateTime startedAt) {
+        syncedAt = startedAt;
+        LocalDateTime cutoff = overlapStart(startedAt);
+        recentlySeen.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+    }
+
+    private LocalDateTime overlapStart(LocalDateTime from) {
+        return from.minus(overlapMs, ChronoUnit.MILLIS);
+    }
+
+    private static void add(BloomFilter target, Map<Long, LocalDateTime> cutoffs, RevokedToken revoked) {
+        if(revoked.getTokenId() != null) {
+            target.put(TOKEN_KEY + revoked.getTokenId());
+        } else {
+            addCutoff(cutoffs, revoked);
+        }
+    }
+
+    private static void addCutoff(Map<Long, LocalDateTime> cutoffs, RevokedToken revoked) {
+        cutoffs.merge(revoked.getUserId(), revoked.getRevokedAt(), (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.taskflow.service;
 
+import com.example.taskflow.config.ReplicaRead;
 import com.example.taskflow.dto.AuthResponse;
 import com.example.taskflow.entity.User;
 import com.example.taskflow.repository.UserRepository;
@@ -9,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +25,8 @@ public class UserService {
         this.userRepository = userRepository;
     }
 
+    @Transactional(readOnly = true)
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<AuthResponse>> getUserDetails(Long userId) {
         logger.info("Fetching user details for user ID: {}", userId);
         
@@ -47,12 +51,17 @@ public class UserService {
 
     }
 
+    @Transactional(readOnly = true)
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<List<AuthResponse>>> searchAvailableMembers(Long projectId, String query) {
         if(query == null || query.isBlank()) {
             return ResponseHandler.notFound("Search query cannot be empty.");
         }
 
-        List<User> availableMembers = userRepository.searchAvailableMembers(query, projectId);
+        // the pattern is built here rather than with CONCAT in SQL so the planner sees a constant
+        // prefix and can use the lower(name) index
+        String prefix = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        List<User> availableMembers = userRepository.searchAvailableMembers(prefix, projectId);
 
         if(availableMembers.isEmpty()) {
             return ResponseHandler.notFound("Members not found.");
@@ -63,6 +72,8 @@ public class UserService {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseHandler.success("Available members fetched.", response, HttpStatus.OK.value()));
     }
 
+    @Transactional(readOnly = true)
+    @ReplicaRead
     public ResponseEntity<ResponseHandler<List<AuthResponse>>> findAvailableMembersForTaskByProjectId(Long projectId) {
         List<User> members = userRepository.findAvailableForTask(projectId);
 
@@ -0,0 +1,97 @@
+package com.example.taskflow.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+
+/**
+ * Members of one project ordered by open load, lowest first, for automatic task assignment. Backed by a
+ * {@link TreeSet} rather than a {@link java.util.PriorityQueue} so a member's load can be adjusted in
+ * O(log m) when one of their tasks is completed or deleted. Ties go to the lower member ID.
+ * <p>
+ * All methods are synchronized.
+ */
+public class AssignmentHeap {
+
+    private record Entry(long memberId, long load) {}
+
+    private static final Comparator<Entry> BY_LOAD = Comparator.comparingLong(Entry::load).thenComparingLong(Entry::memberId);
+
+    private final TreeSet<Entry> heap = new TreeSet<>(BY_LOAD);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // member ID -> current open load
+    public AssignmentHeap(Map<Long, Long> loads) {
+        loads.forEach((memberId, load) -> {
+            Entry entry = new Entry(memberId, load);
+            entries.put(memberId, entry);
+            heap.add(entry);
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(long memberId) {
+        return entries.containsKey(memberId);
+    }
+
+    // null if the member is not part of the heap
+    public synchronized Long load(long memberId) {
+        Entry entry = entries.get(memberId);
+        return entry != null ? entry.load() : null;
+    }
+
+    // no-op for members outside the heap (removed from the project, or not a member role)
+    public synchronized void adjust(long memberId, long delta) {
+        Entry entry = entries.get(memberId);
+        if(entry == null || delta == 0) {
+            return;
+        }
+        heap.remove(entry);
+        entry = new Entry(memberId, Math.max(0, entry.load() + delta));
+        entries.put(memberId, entry);
+        heap.add(entry);
+    }
+
+    /**
+     * Hands the task to the eligible member with the lowest load and adds its weight to that member.
+     * Returns null if no member is eligible.
+     */
+    public synchronized Long assign(long weight, LongPredicate eligible) {
+        for (Entry entry : heap) {
+            if(eligible.test(entry.memberId())) {
+                adjust(entry.memberId(), weight);
+                return entry.memberId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Assigns every task at once, heaviest first so the light tasks even out what the heavy ones leave.
+     * Returns the member for each weight, in the given order, or null if no member is eligible.
+     */
+    public synchronized List<Long> assignAll(long[] weights, LongPredicate eligible) {
+        Integer[] order = new Integer[weights.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> weights[i]).reversed());
+
+        Long[] members = new Long[weights.length];
+        for (int i : order) {
+            members[i] = assign(weights[i], eligible);
+            if(members[i] == null) {
+                return null;
+            }
+        }
+        return new ArrayList<>(Arrays.asList(members));
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.taskflow.utils;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of one project's tasks, with an incrementally maintained topological order and
+ * earliest finish dates.
+ * <p>
+ * The order is kept with the Pearce-Kelly algorithm: adding an edge that already agrees with the order
+ * costs nothing, otherwise only the nodes positioned between its two ends are searched and reordered,
+ * and that same search detects cycles. A task's earliest finish is its due date, or the latest earliest
+ * finish of its open dependencies if that is later; DONE tasks hold nothing up. After a change only the
+ * changed tasks and the tasks downstream of them are recomputed, in topological order. The critical
+ * path and delayed tasks are derived on demand and cached until the next change.
+ * <p>
+ * All methods are synchronized.
+ */
+public class DependencyGraph {
+
+    public record TaskNode(long id, String title, LocalDate dueDate, boolean done) {}
+
+    public record ScheduledTask(long id, String title, LocalDate dueDate, LocalDate earliestFinish) {}
+
+    // critical path ends at the open task that finishes last; delayed tasks finish after their due date
+    public record Schedule(LocalDate projectFinish, List<ScheduledTask> criticalPath, List<ScheduledTask> delayed) {}
+
+    private static final class Node {
+        private final long id;
+        private String title;
+        private LocalDate dueDate;
+        private boolean done;
+        private int ord;
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+        private final Set<Node> dependents = new LinkedHashSet<>();
+        private LocalDate earliestFinish;
+        private Node drivenBy;
+
+        private Node(long id) {
+            this.id = id;
+        }
+    }
+
+    private static final Comparator<Node> BY_ORD = Comparator.comparingInt(node -> node.ord);
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private int nextOrd;
+    private Schedule schedule;
+
+    /**
+     * Builds a graph in one pass (Kahn's algorithm), without the per-edge reordering of {@link #addEdge}.
+     * Edges are {@code {taskId, dependsOnId}} pairs; edges to unknown tasks are skipped.
+     */
+    public static DependencyGraph build(Collection<TaskNode> tasks, Collection<long[]> edges) {
+        DependencyGraph graph = new DependencyGraph();
+        for (TaskNode task : tasks) {
+            Node node = new Node(task.id());
+            graph.update(node, task);
+            graph.nodes.put(task.id(), node);
+        }
+
+        for (long[] edge : edges) {
+            Node task = graph.nodes.get(edge[0]);
+            Node dependsOn = graph.nodes.get(edge[1]);
+            if(task != null && dependsOn != null && task != dependsOn) {
+                dependsOn.dependents.add(task);
+                task.dependencies.add(dependsOn);
+            }
+        }
+
+        Map<Node, Integer> remaining = new HashMap<>();
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : graph.nodes.values()) {
+            remaining.put(node, node.dependencies.size());
+            if(node.dependencies.isEmpty()) {
+                ready.add(node);
+            }
+        }
+
+        List<Node> order = new ArrayList<>(graph.nodes.size());
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            order.add(node);
+            for (Node dependent : node.dependents) {
+                if(remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if(order.size() < graph.nodes.size()) {
+            throw new IllegalStateException("Dependency cycle among " + (graph.nodes.size() - order.size()) + " tasks");
+        }
+
+        for (Node node : order) {
+            node.ord = graph.nextOrd++;
+            graph.computeEarliestFinish(node);
+        }
+        return graph;
+    }
+
+    public synchronized boolean contains(long taskId) {
+        return nodes.containsKey(taskId);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    // adds the task, or updates its title, due date and status
+    public synchronized void putTask(TaskNode task) {
+        Node node = nodes.get(task.id());
+        if(node == null) {
+            node = new Node(task.id());
+            node.ord = nextOrd++;
+            nodes.put(task.id(), node);
+        }
+        update(node, task);
+        recompute(List.of(node));
+    }
+
+    public synchronized void removeTask(long taskId) {
+        Node node = nodes.remove(taskId);
+        if(node == null) {
+            return;
+        }
+
+        for (Node dependency : node.dependencies) {
+            dependency.dependents.remove(node);
+        }
+        for (Node dependent : node.dependents) {
+            dependent.dependencies.remove(node);
+        }
+        recompute(node.dependents);
+    }
+
+    /**
+     * True if {@code taskId} depending on {@code dependsOnId} would close a cycle. Free when the current
+     * order already puts {@code dependsOnId} first.
+     */
+    public synchronized boolean wouldCreateCycle(long taskId, long dependsOnId) {
+        Node task = require(taskId);
+        Node dependsOn = require(dependsOnId);
+        return task == dependsOn || (task.ord < dependsOn.ord && reachable(task, dependsOn, dependsOn.ord) == null);
+    }
+
+    /**
+     * Makes {@code taskId} depend on {@code dependsOnId}. Returns false if the edge already exists.
+     *
+     * @throws IllegalArgumentException if either task is unknown or the edge would close a cycle
+     */
+    public synchronized boolean addEdge(long taskId, long dependsOnId) {
+        Node task = require(taskId);
+        Node dependsOn = require(dependsOnId);
+        if(dependsOn.dependents.contains(task)) {
+            return false;
+        }
+        if(task == dependsOn) {
+            throw new IllegalArgumentException("A task cannot depend on itself");
+        }
+
+        if(task.ord < dependsOn.ord) {
+            // task is positioned before its new dependency: reorder the nodes between the two
+            List<Node> forward = reachable(task, dependsOn, dependsOn.ord);
+            if(forward == null) {
+                throw new IllegalArgumentException("Task " + dependsOnId + " already depends on task " + taskId);
+            }
+            List<Node> backward = reachableBackward(dependsOn, task.ord);
+            reorder(backward, forward);
+        }
+
+        dependsOn.dependents.add(task);
+        task.dependencies.add(dependsOn);
+        recompute(List.of(task));
+        return true;
+    }
+
+    public synchronized boolean removeEdge(long taskId, long dependsOnId) {
+        Node task = nodes.get(taskId);
+        Node dependsOn = nodes.get(dependsOnId);
+        if(task == null || dependsOn == null || !task.dependencies.remove(dependsOn)) {
+            return false;
+        }
+
+        dependsOn.dependents.remove(task);
+        recompute(List.of(task));
+        return true;
+    }
+
+    public synchronized List<Long> topologicalOrder() {
+        return nodes.values().stream().sorted(BY_ORD).map(node -> node.id).toList();
+    }
+
+    public synchronized LocalDate earliestFinish(long taskId) {
+        return require(taskId).earliestFinish;
+    }
+
+    public synchronized Schedule schedule() {
+        if(schedule != null) {
+            return schedule;
+        }
+
+        Node last = null;
+        List<ScheduledTask> delayed = new ArrayList<>();
+        for (Node node : nodes.values().stream().sorted(BY_ORD).toList()) {
+            if(node.earliestFinish == null) {
+                continue;
+            }
+            // on a tie the task later in the order wins, so the path ends downstream
+            if(last == null || !node.earliestFinish.isBefore(last.earliestFinish)) {
+                last = node;
+            }
+            if(node.dueDate != null && node.earliestFinish.isAfter(node.dueDate)) {
+                delayed.add(scheduled(node));
+            }
+        }
+
+        List<ScheduledTask> criticalPath = new ArrayList<>();
+        for (Node node = last; node != null; node = node.drivenBy) {
+            criticalPath.add(0, scheduled(node));
+        }
+
+        schedule = new Schedule(last != null ? last.earliestFinish : null, List.copyOf(criticalPath), List.copyOf(delayed));
+        return schedule;
+    }
+
+    private Node require(long taskId) {
+        Node node = nodes.get(taskId);
+        if(node == null) {
+            throw new IllegalArgumentException("Task " + taskId + " is not part of this project");
+        }
+        return node;
+    }
+
+    private void update(Node node, TaskNode task) {
+        node.title = task.title();
+        node.dueDate = task.dueDate();
+        node.done = task.done();
+    }
+
+    // nodes reachable from start through dependents positioned before bound, or null if target is among them
+    private static List<Node> reachable(Node start, Node target, int bound) {
+        List<Node> visited = new ArrayList<>();
+        Set<Node> seen = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        seen.add(start);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            visited.add(node);
+            for (Node dependent : node.dependents) {
+                if(dependent == target) {
+                    return null;
+                }
+                if(dependent.ord < bound && seen.add(dependent)) {
+                    stack.push(dependent);
+                }
+            }
+        }
+        return visited;
+    }
+
+    // nodes start reaches through dependencies positioned after bound
+    private static List<Node> reachableBackward(Node start, int bound) {
+        List<Node> visited = new ArrayList<>();
+        Set<Node> seen = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        seen.add(start);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            visited.add(node);
+            for (Node dependency : node.dependencies) {
+                if(dependency.ord > bound && seen.add(dependency)) {
+                    stack.push(dependency);
+                }
+            }
+        }
+        return visited;
+    }
+
+    // the backward set takes the lowest of the freed positions, keeping each set's internal order
+    private static void reorder(List<Node> backward, List<Node> forward) {
+        backward.sort(BY_ORD);
+        forward.sort(BY_ORD);
+
+        int[] positions = new int[backward.size() + forward.size()];
+        int i = 0;
+        for (Node node : backward) {
+            positions[i++] = node.ord;
+        }
+        for (Node node : forward) {
+            positions[i++] = node.ord;
+        }
+        Arrays.sort(positions);
+
+        i = 0;
+        for (Node node : backward) {
+            node.ord = positions[i++];
+        }
+        for (Node node : forward) {
+            node.ord = positions[i++];
+        }
+    }
+
+    private void recompute(Collection<Node> changed) {
+        schedule = null;
+
+        Set<Node> affected = new HashSet<>(changed);
+        Deque<Node> stack = new ArrayDeque<>(changed);
+        while (!stack.isEmpty()) {
+            for (Node dependent : stack.pop().dependents) {
+                if(affected.add(dependent)) {
+                    stack.push(dependent);
+                }
+            }
+        }
+
+        affected.stream().sorted(BY_ORD).forEach(this::computeEarliestFinish);
+    }
+
+    private void computeEarliestFinish(Node node) {
+        node.drivenBy = null;
+        if(node.done) {
+            node.earliestFinish = null;
+            return;
+        }
+
+        LocalDate finish = node.dueDate;
+        for (Node dependency : node.dependencies) {
+            if(dependency.earliestFinish != null && (finish == null || dependency.earliestFinish.isAfter(finish))) {
+                finish = dependency.earliestFinish;
+                node.drivenBy = dependency;
+            }
+        }
+        node.earliestFinish = finish;
+    }
+
+    private static ScheduledTask scheduled(Node node) {
+        return new ScheduledTask(node.id, node.title, node.dueDate, node.earliestFinish);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.taskflow.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel holding one deadline per item. Level 0 has {@code wheelSize} slots of
+ * {@code tickMs}; every level above covers {@code wheelSize} slots of the whole span of the level below.
+ * Scheduling and cancelling are O(1); {@link #advance(long)} only looks at the slots whose time has come,
+ * re-spreading an upper-level slot into the finer levels when the clock reaches it. Deadlines beyond the
+ * top level wait in an overflow map that is re-checked each time the top level turns.
+ * <p>
+ * Items are identified by {@code equals}, so scheduling an item again moves it to its new deadline.
+ * All methods are synchronized.
+ */
+public class HierarchicalTimingWheel<T> {
+    private final long[] tickMs;
+    private final int wheelSize;
+    private final List<List<Map<T, Long>>> levels = new ArrayList<>();
+    private final Map<T, Long> overflow = new LinkedHashMap<>();
+    private final Map<T, Map<T, Long>> locations = new HashMap<>();
+    private final List<T> expired = new ArrayList<>();
+    private long currentTime;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startTime) {
+        if(tickMs <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("tickMs must be positive, wheelSize at least 2 and levelCount at least 1");
+        }
+
+        this.wheelSize = wheelSize;
+        this.tickMs = new long[levelCount];
+        for (int level = 0; level < levelCount; level++) {
+            this.tickMs[level] = level == 0 ? tickMs : Math.multiplyExact(this.tickMs[level - 1], wheelSize);
+
+            List<Map<T, Long>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new LinkedHashMap<>());
+            }
+            levels.add(slots);
+        }
+        this.currentTime = startTime - Math.floorMod(startTime, tickMs);
+    }
+
+    /**
+     * Schedules {@code item} to expire at {@code deadline}, replacing any earlier deadline for the same item.
+     * Deadlines that are already due come back from the next {@link #advance(long)}.
+     */
+    public synchronized void schedule(T item, long deadline) {
+        cancel(item);
+        place(item, deadline);
+    }
+
+    public synchronized boolean cancel(T item) {
+        Map<T, Long> bucket = locations.remove(item);
+        if(bucket == null) {
+            return expired.remove(item);
+        }
+        bucket.remove(item);
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to {@code now} and returns every item whose deadline has passed,
+     * in the order their slots were reached.
+     */
+    public synchronized List<T> advance(long now) {
+        while (currentTime + tickMs[0] <= now) {
+            currentTime += tickMs[0];
+
+            // coarser levels first, so their items can still land in this tick's level 0 slot
+            for (int level = tickMs.length - 1; level > 0; level--) {
+                if(currentTime % tickMs[level] == 0) {
+                    if(level == tickMs.length - 1) {
+                        respread(overflow);
+                    }
+                    respread(levels.get(level).get(slot(currentTime, level)));
+                }
+            }
+
+            Map<T, Long> due = levels.get(0).get(slot(currentTime, 0));
+            for (T item : due.keySet()) {
+                locations.remove(item);
+                expired.add(item);
+            }
+            due.clear();
+        }
+
+        List<T> result = new ArrayList<>(expired);
+        expired.clear();
+        return result;
+    }
+
+    public synchronized int size() {
+        return locations.size() + expired.size();
+    }
+
+    public synchronized long currentTime() {
+        return currentTime;
+    }
+
+    private void respread(Map<T, Long> bucket) {
+        if(bucket.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<T, Long>> entries = new ArrayList<>(bucket.entrySet());
+        bucket.clear();
+        for (Map.Entry<T, Long> entry : entries) {
+            locations.remove(entry.getKey());
+            place(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void place(T item, long deadline) {
+        // rounded up to a whole tick so nothing ever fires before its deadline
+        long tick = -Math.floorDiv(-deadline, tickMs[0]) * tickMs[0];
+        if(tick <= currentTime) {
+            expired.add(item);
+            return;
+        }
+
+        Map<T, Long> bucket = overflow;
+        for (int level = 0; level < tickMs.length; level++) {
+            if(Math.floorDiv(tick, tickMs[level]) - Math.floorDiv(currentTime, tickMs[level]) < wheelSize) {
+                bucket = levels.get(level).get(slot(tick, level));
+                break;
+            }
+        }
+
+        bucket.put(item, deadline);
+        locations.put(item, bucket);
+    }
+
+    private int slot(long time, int level) {
+        return (int) Math.floorMod(Math.floorDiv(time, tickMs[level]), (long) wheelSize);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskflow.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidation messages between nodes. Every message sent by any node, including this one,
+ * is delivered to the receiver; delivery is best effort, so caches must still expire on their own.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    void send(String message);
+
+    void subscribe(Consumer<String> receiver);
+
+    @Override
+    default void close() {
+    }
+}
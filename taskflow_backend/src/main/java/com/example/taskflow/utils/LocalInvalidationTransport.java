@@ -0,0 +1,26 @@
+package com.example.taskflow.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: delivers each message synchronously to every receiver subscribed to this
+ * instance. With one node that is only the sender itself; tests connect several buses to one instance
+ * to stand in for several nodes.
+ */
+public class LocalInvalidationTransport implements InvalidationTransport {
+    private final List<Consumer<String>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(String message) {
+        for (Consumer<String> receiver : receivers) {
+            receiver.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> receiver) {
+        receivers.add(receiver);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskflow.utils;
+
+/**
+ * Log-bucketed histogram of non-negative values, in the style of an HDR histogram. Values below 64 get
+ * a bucket each; above that every power of two is split into 32 buckets, so a quantile is reported within
+ * about 3% of the recorded value. The bucket array has a fixed size, so recording is O(1), a quantile is
+ * one walk over the buckets whatever the number of values, and two histograms merge by adding counts.
+ * Values above {@link #MAX_VALUE} (about 1,000 years in seconds) are clamped.
+ * <p>
+ * Thread-safe.
+ */
+public class LogHistogram {
+
+    public static final long MAX_VALUE = (1L << 35) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    public synchronized void record(long value) {
+        counts[index(Math.min(Math.max(value, 0), MAX_VALUE))]++;
+        total++;
+    }
+
+    // copies the other histogram first, so two histograms merging into each other cannot deadlock
+    public void merge(LogHistogram other) {
+        long[] otherCounts = other.snapshot();
+        synchronized (this) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += otherCounts[i];
+                total += otherCounts[i];
+            }
+        }
+    }
+
+    public synchronized long count() {
+        return total;
+    }
+
+    /**
+     * The value at quantile {@code q} (0..1), as the midpoint of its bucket; null if nothing was recorded.
+     */
+    public synchronized Long quantile(double q) {
+        if(total == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return midpoint(i);
+            }
+        }
+        return midpoint(BUCKETS - 1);
+    }
+
+    private synchronized long[] snapshot() {
+        return counts.clone();
+    }
+
+    // values below EXACT map to themselves; above, the shift keeps the top SUB_BUCKET_BITS + 1 bits
+    private static int index(long value) {
+        if(value < EXACT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+
+    private static long midpoint(int index) {
+        if(index < EXACT) {
+            return index;
+        }
+        int shift = (index - EXACT) / SUB_BUCKETS + 1;
+        long lower = (long) (SUB_BUCKETS + (index - EXACT) % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) / 2;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskflow.utils;
 
+import com.example.taskflow.serializer.ResponseHandlerSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -7,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import java.time.LocalDateTime;
 
 @Data
+@JsonSerialize(using = ResponseHandlerSerializer.class)
 public class ResponseHandler<T> {
     private boolean success;
     private String message;
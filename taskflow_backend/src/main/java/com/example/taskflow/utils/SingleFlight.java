@@ -0,0 +1,93 @@
+package com.example.taskflow.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls into one: the first caller for a key runs the computation, and
+ * everyone who asks for the same key while it is running waits for and shares that result. With a
+ * positive {@code ttlMs} the result is also reused for that long after it completes. Failures are
+ * shared with the waiting callers but never reused.
+ * <p>
+ * Only meant for idempotent reads. Calls are counted in {@code taskflow.singleflight.calls} tagged with
+ * the flight name and {@code result=executed|shared|cached}.
+ */
+public class SingleFlight<K, V> {
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private record Result<V>(V value, long expiresAt) {}
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, Result<V>> recent = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final Counter executed;
+    private final Counter shared;
+    private final Counter cached;
+
+    public SingleFlight(String name, long ttlMs, MeterRegistry meterRegistry) {
+        this.ttlMs = ttlMs;
+        this.executed = meterRegistry.counter("taskflow.singleflight.calls", "name", name, "result", "executed");
+        this.shared = meterRegistry.counter("taskflow.singleflight.calls", "name", name, "result", "shared");
+        this.cached = meterRegistry.counter("taskflow.singleflight.calls", "name", name, "result", "cached");
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        if(ttlMs > 0) {
+            Result<V> result = recent.get(key);
+            if(result != null && result.expiresAt() > System.currentTimeMillis()) {
+                cached.increment();
+                return result.value();
+            }
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if(existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = computation.get();
+            if(ttlMs > 0) {
+                remember(key, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void remember(K key, V value) {
+        long now = System.currentTimeMillis();
+        if(recent.size() >= PURGE_THRESHOLD) {
+            recent.values().removeIf(result -> result.expiresAt() <= now);
+        }
+        recent.put(key, new Result<>(value, now + ttlMs));
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if(e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskflow.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The fields of a response DTO that a {@code fields=} query parameter may select, each with the JPQL
+ * expression that reads it. A selection becomes the SELECT list of the query, and rows are copied into
+ * DTOs that only have the selected fields set; the DTO serializers skip null fields, so nothing else is
+ * written to the response either.
+ */
+public final class SparseFields<T> {
+
+    public record Field<T>(String name, String expression, Function<T, Object> getter, BiConsumer<T, Object> setter) {}
+
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+    private final Supplier<T> factory;
+
+    public SparseFields(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> SparseFields<T> field(String name, String expression, Function<T, V> getter, BiConsumer<T, V> setter) {
+        fields.put(name, new Field<>(name, expression, (Function<T, Object>) getter, (BiConsumer<T, Object>) setter));
+        return this;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter, keeping the declared field order.
+     * Returns null when the parameter is blank (all fields).
+     *
+     * @throws IllegalArgumentException naming the unknown fields
+     */
+    public List<Field<T>> select(String names) {
+        if(names == null || names.isBlank()) {
+            return null;
+        }
+
+        List<String> requested = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        for (String name : names.split(",")) {
+            String trimmed = name.trim();
+            if(trimmed.isEmpty()) {
+                continue;
+            }
+            (fields.containsKey(trimmed) ? requested : unknown).add(trimmed);
+        }
+
+        if(!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown fields: " + String.join(", ", unknown) + ". Allowed: " + String.join(", ", fields.keySet()) + ".");
+        }
+        if(requested.isEmpty()) {
+            return null;
+        }
+
+        return fields.values().stream().filter(field -> requested.contains(field.name())).toList();
+    }
+
+    public String selectClause(List<Field<T>> selection) {
+        return selection.stream().map(Field::expression).collect(Collectors.joining(", "));
+    }
+
+    // a JPQL row: Object[] for several selected expressions, the bare value for one
+    public T fromRow(List<Field<T>> selection, Object row) {
+        T target = factory.get();
+        if(selection.size() == 1) {
+            selection.get(0).setter().accept(target, row);
+            return target;
+        }
+
+        Object[] values = (Object[]) row;
+        for (int i = 0; i < selection.size(); i++) {
+            selection.get(i).setter().accept(target, values[i]);
+        }
+        return target;
+    }
+
+    // same selection applied to an already loaded DTO (e.g. a cached feed)
+    public T copy(List<Field<T>> selection, T source) {
+        T target = factory.get();
+        for (Field<T> field : selection) {
+            field.setter().accept(target, field.getter().apply(source));
+        }
+        return target;
+    }
+}
@@ -0,0 +1,2 @@
+-- TokenRevocationService polls the revocations made since its previous read (with an overlap)
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
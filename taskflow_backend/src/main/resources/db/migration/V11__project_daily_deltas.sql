@@ -0,0 +1,11 @@
+-- Status changes not yet added to project_daily_counts. BurndownService appends one row per change in the
+-- changing transaction, so a change is counted exactly when it commits, and a scheduled job folds the rows
+-- into project_daily_counts and deletes them. No foreign key: rows of a purged project are simply dropped.
+CREATE TABLE project_daily_deltas (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id  BIGINT NOT NULL,
+    day         DATE   NOT NULL,
+    todo        INT    NOT NULL,
+    in_progress INT    NOT NULL,
+    done        INT    NOT NULL
+);
@@ -0,0 +1,31 @@
+-- Entity changes made before the schema moved to Flyway: project tombstones, unique memberships and
+-- token revocation. Databases baselined at V1 may or may not have them, depending on whether
+-- ddl-auto=update already created them, so every statement is guarded. Runs before V2, which indexes them.
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint
+        WHERE conrelid = 'project_member'::regclass
+        AND contype = 'u'
+    ) THEN
+        -- the join table allowed duplicate memberships until now; keep one row per pair
+        DELETE FROM project_member a
+        USING project_member b
+        WHERE a.ctid < b.ctid
+        AND a.project_id = b.project_id
+        AND a.member_id = b.member_id;
+
+        ALTER TABLE project_member ADD CONSTRAINT uk_project_member UNIQUE (project_id, member_id);
+    END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_id   VARCHAR(255) UNIQUE,
+    user_id    BIGINT       NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
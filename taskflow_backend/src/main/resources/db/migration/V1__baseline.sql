@@ -0,0 +1,34 @@
+-- Schema as previously created by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name     VARCHAR(255),
+    email    VARCHAR(255),
+    password VARCHAR(255),
+    role     VARCHAR(255) CHECK (role IN ('ADMIN', 'MANAGER', 'MEMBER')),
+    status   BOOLEAN
+);
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    manager_id  BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE project_member (
+    project_id BIGINT NOT NULL REFERENCES projects (id),
+    member_id  BIGINT NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    status      VARCHAR(255) CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    priority    VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    due_date    DATE,
+    project_id  BIGINT REFERENCES projects (id),
+    assigned_to BIGINT REFERENCES users (id)
+);
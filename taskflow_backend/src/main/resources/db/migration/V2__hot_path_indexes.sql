@@ -0,0 +1,25 @@
+-- Indexes matching the repository access patterns.
+
+-- member task feed (TaskRepository.findByMember_Id) and open-task checks
+CREATE INDEX IF NOT EXISTS idx_tasks_assigned_to_status ON tasks (assigned_to, status);
+
+-- project-scoped task lookups, availability checks and chunked project cleanup
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id_status ON tasks (project_id, status);
+
+-- membership by member; (project_id, member_id) is already covered by the unique constraint
+CREATE INDEX IF NOT EXISTS idx_project_member_member_id ON project_member (member_id);
+
+-- manager dashboards: projects list, task stats, member counts
+CREATE INDEX IF NOT EXISTS idx_projects_manager_id ON projects (manager_id);
+
+-- background purge of tombstoned projects
+CREATE INDEX IF NOT EXISTS idx_projects_deleted_at ON projects (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- case-insensitive prefix search in UserRepository.searchAvailableMembers
+CREATE INDEX IF NOT EXISTS idx_users_lower_name ON users (lower(name) text_pattern_ops);
+
+-- "log out everywhere" confirmation in TokenRevocationService
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_user_id ON revoked_tokens (user_id, revoked_at) WHERE token_id IS NULL;
+
+-- login (UserRepository.findByEmail)
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
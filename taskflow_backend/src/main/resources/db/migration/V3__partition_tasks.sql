@@ -0,0 +1,45 @@
+-- tasks is hash-partitioned on project_id so project-scoped reads, updates and deletes touch a single
+-- partition, and vacuum / index maintenance work on 1/16th of the table at a time.
+-- The primary key has to include the partition key. Ids come from a sequence default (continued from
+-- the old identity values) rather than an identity column, which PostgreSQL 16 does not propagate to
+-- partitions.
+-- The copy runs inside the migration transaction; tasks is locked for writes until it commits.
+
+LOCK TABLE tasks IN EXCLUSIVE MODE;
+
+CREATE SEQUENCE tasks_partitioned_id_seq;
+
+CREATE TABLE tasks_partitioned (
+    id          BIGINT NOT NULL DEFAULT nextval('tasks_partitioned_id_seq'),
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    status      VARCHAR(255) CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    priority    VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    due_date    DATE,
+    project_id  BIGINT NOT NULL REFERENCES projects (id),
+    assigned_to BIGINT REFERENCES users (id),
+    PRIMARY KEY (id, project_id)
+) PARTITION BY HASH (project_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE tasks_p%s PARTITION OF tasks_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+INSERT INTO tasks_partitioned (id, title, description, status, priority, due_date, project_id, assigned_to)
+SELECT id, title, description, status, priority, due_date, project_id, assigned_to
+FROM tasks;
+
+SELECT setval('tasks_partitioned_id_seq', COALESCE(MAX(id), 0) + 1, false) FROM tasks_partitioned;
+
+DROP TABLE tasks;
+
+ALTER TABLE tasks_partitioned RENAME TO tasks;
+ALTER SEQUENCE tasks_partitioned_id_seq RENAME TO tasks_id_seq;
+ALTER SEQUENCE tasks_id_seq OWNED BY tasks.id;
+
+-- recreated on the parent; each partition gets its own copy (tasks_pN_..._idx)
+CREATE INDEX idx_tasks_assigned_to_status ON tasks (assigned_to, status);
+CREATE INDEX idx_tasks_project_id_status ON tasks (project_id, status);
@@ -0,0 +1,25 @@
+-- Completed tasks are moved out of tasks into tasks_archive once they are older than
+-- archive.after-days (TaskArchiveService), keeping the live table small.
+
+ALTER TABLE tasks ADD COLUMN completed_at TIMESTAMP(6);
+
+-- completion time of existing DONE tasks is unknown; they start ageing from the migration
+UPDATE tasks SET completed_at = now() WHERE status = 'DONE';
+
+CREATE INDEX idx_tasks_completed_at ON tasks (completed_at) WHERE status = 'DONE';
+
+-- status is always DONE and dropped; fixed-width columns first to avoid alignment padding
+CREATE TABLE tasks_archive (
+    id           BIGINT       PRIMARY KEY,
+    project_id   BIGINT       NOT NULL,
+    assigned_to  BIGINT,
+    completed_at TIMESTAMP(6) NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL,
+    due_date     DATE,
+    priority     VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    title        VARCHAR(255),
+    description  VARCHAR(255)
+);
+
+CREATE INDEX idx_tasks_archive_project_id ON tasks_archive (project_id, completed_at DESC);
+CREATE INDEX idx_tasks_archive_assigned_to ON tasks_archive (assigned_to, completed_at DESC);
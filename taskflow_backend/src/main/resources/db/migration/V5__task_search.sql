@@ -0,0 +1,15 @@
+-- Full-text search over task titles (weight A) and descriptions (weight B).
+-- A stored generated column is recomputed by PostgreSQL in the same statement that writes the row,
+-- so every insert / update from TaskService is searchable as soon as its transaction commits.
+-- Adding the column rewrites tasks once.
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+-- btree_gin lets project_id share the GIN index, so a search inside one project only visits that
+-- project's postings instead of every match in the partition
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX idx_tasks_project_id_search_vector ON tasks USING GIN (project_id, search_vector);
@@ -0,0 +1,12 @@
+-- Due-date reminders (to the assignee) and overdue escalations (to the project manager), sent by
+-- TaskReminderService. Each node claims a task by setting the column with an
+-- UPDATE ... WHERE ... IS NULL, so a reminder is only ever sent by one node.
+
+ALTER TABLE tasks ADD COLUMN reminder_sent_at TIMESTAMP(6);
+ALTER TABLE tasks ADD COLUMN escalated_at TIMESTAMP(6);
+
+-- tasks already overdue when this ships are not reminded or escalated retroactively
+UPDATE tasks SET reminder_sent_at = now(), escalated_at = now() WHERE due_date < CURRENT_DATE AND status <> 'DONE';
+
+-- the periodic horizon load only ever reads open tasks that still have something to send
+CREATE INDEX idx_tasks_due_date_pending ON tasks (due_date) WHERE status <> 'DONE' AND escalated_at IS NULL;
@@ -0,0 +1,17 @@
+-- Task-to-task dependencies within a project: task_id cannot finish before depends_on_id.
+-- TaskDependencyService rejects links that would close a cycle; archiving or deleting
+-- either task removes the link.
+
+CREATE TABLE task_dependencies (
+    project_id    BIGINT       NOT NULL,
+    task_id       BIGINT       NOT NULL,
+    depends_on_id BIGINT       NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (project_id, task_id, depends_on_id),
+    CHECK (task_id <> depends_on_id),
+    FOREIGN KEY (task_id, project_id) REFERENCES tasks (id, project_id) ON DELETE CASCADE,
+    FOREIGN KEY (depends_on_id, project_id) REFERENCES tasks (id, project_id) ON DELETE CASCADE
+);
+
+-- successors of a task; also serves the cascade when a depended-on task is deleted
+CREATE INDEX idx_task_dependencies_depends_on ON task_dependencies (project_id, depends_on_id);
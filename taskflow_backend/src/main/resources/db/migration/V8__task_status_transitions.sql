@@ -0,0 +1,24 @@
+-- Every status change is appended to task_status_transitions (TaskTransitionLog), so flow metrics no
+-- longer depend on the single status column. created_at and started_at (first move to IN_PROGRESS) give
+-- each completed task its lead time and cycle time (CycleTimeService).
+
+-- unknown for existing tasks; they stay NULL and are left out of the percentiles
+ALTER TABLE tasks ADD COLUMN created_at TIMESTAMP(6);
+ALTER TABLE tasks ADD COLUMN started_at TIMESTAMP(6);
+ALTER TABLE tasks ALTER COLUMN created_at SET DEFAULT now();
+
+ALTER TABLE tasks_archive ADD COLUMN created_at TIMESTAMP(6);
+ALTER TABLE tasks_archive ADD COLUMN started_at TIMESTAMP(6);
+
+-- append-only history; no foreign keys, so it outlives archived and deleted tasks
+CREATE TABLE task_status_transitions (
+    id          BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id     BIGINT       NOT NULL,
+    project_id  BIGINT       NOT NULL,
+    changed_by  BIGINT,
+    changed_at  TIMESTAMP(6) NOT NULL,
+    from_status VARCHAR(255) CHECK (from_status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    to_status   VARCHAR(255) NOT NULL CHECK (to_status IN ('TODO', 'IN_PROGRESS', 'DONE'))
+);
+
+CREATE INDEX idx_task_status_transitions_task ON task_status_transitions (project_id, task_id, changed_at);
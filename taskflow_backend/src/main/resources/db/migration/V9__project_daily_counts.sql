@@ -0,0 +1,22 @@
+-- Burndown / burnup buckets: the number of a project's tasks in each status at the end of a day. Only
+-- days with changes have a row; a day without one has the counts of the latest row before it. Kept up to
+-- date by BurndownService as task statuses change, so /projects/{id}/burndown never scans tasks.
+CREATE TABLE project_daily_counts (
+    project_id  BIGINT NOT NULL,
+    day         DATE   NOT NULL,
+    todo        INT    NOT NULL DEFAULT 0,
+    in_progress INT    NOT NULL DEFAULT 0,
+    done        INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, day)
+);
+
+-- status history before this migration is unknown, so the series starts with today's counts;
+-- archived tasks were DONE and still count as done work
+INSERT INTO project_daily_counts (project_id, day, todo, in_progress, done)
+SELECT p.id, CURRENT_DATE,
+       (SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'TODO'),
+       (SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'IN_PROGRESS'),
+       (SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id AND t.status = 'DONE')
+           + (SELECT COUNT(*) FROM tasks_archive a WHERE a.project_id = p.id)
+FROM projects p
+WHERE p.deleted_at IS NULL;
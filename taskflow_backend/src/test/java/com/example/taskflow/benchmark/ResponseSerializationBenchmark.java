@@ -0,0 +1,107 @@
+package com.example.taskflow.benchmark;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.utils.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the hand-written envelope/DTO serializers against plain reflective Jackson serialization
+ * for a list payload, reporting throughput (bytes/sec) and heap allocated per response. That both write
+ * the same output is checked by {@code ResponseSerializerEquivalenceTest}.
+ * <p>
+ * Run with: {@code mvn -q test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.taskflow.benchmark.ResponseSerializationBenchmark}
+ */
+public class ResponseSerializationBenchmark {
+
+    private static final int TASKS_PER_RESPONSE = 500;
+    private static final int WARMUP_ITERATIONS = 10_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (long i = 0; i < TASKS_PER_RESPONSE; i++) {
+            tasks.add(new TaskResponse(i, "Task " + i, "Description of task " + i, LocalDate.now().plusDays(i % 30),
+                    TaskStatus.values()[(int) (i % 3)], PriorityType.values()[(int) (i % 3)]));
+        }
+        ResponseHandler<List<TaskResponse>> response = ResponseHandler.success("Tasks fetched successfully.", tasks, 200);
+
+        ObjectMapper tuned = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // same configuration, but @JsonSerialize is ignored so the reflective bean serializers are used
+        ObjectMapper reflective = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .annotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public Object findSerializer(Annotated a) {
+                        return null;
+                    }
+                })
+                .build();
+
+        // two rounds so the second pair runs on fully warmed-up code
+        run("hand-tuned", tuned, response);
+        run("reflective", reflective, response);
+        run("hand-tuned", tuned, response);
+        run("reflective", reflective, response);
+    }
+
+    private static void run(String name, ObjectMapper mapper, Object response) throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.writeValue(out, response);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        out.count = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.writeValue(out, response);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-10s  %8.1f MB/s  %8d bytes/response  %8d bytes allocated/response%n",
+                name,
+                out.count / (elapsed / 1e9) / (1024 * 1024),
+                out.count / MEASURED_ITERATIONS,
+                allocated / MEASURED_ITERATIONS);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
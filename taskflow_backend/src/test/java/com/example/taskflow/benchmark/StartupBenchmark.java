@@ -0,0 +1,86 @@
+package com.example.taskflow.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures time-to-ready of the packaged application: the plain executable jar against the
+ * {@code fast-start} build (AOT bean definitions + AppCDS archive). Each run starts a fresh JVM on a
+ * random port and stops it once Spring Boot logs that the application has started; both the
+ * wall-clock time seen from outside and the JVM uptime Boot reports are recorded.
+ * <p>
+ * Needs the database the application connects to. Build both variants first with
+ * {@code mvn -Pfast-start -DskipTests package}, then run with: {@code mvn -q test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.example.taskflow.benchmark.StartupBenchmark
+ * [-Dexec.args=<runs>]}
+ */
+public class StartupBenchmark {
+
+    private static final String JAR = "taskflow-0.0.1-SNAPSHOT.jar";
+    private static final Pattern STARTED = Pattern.compile("Started TaskflowApplication in [0-9.]+ seconds \\(process running for ([0-9.]+)\\)");
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+        File target = new File("target");
+        File fastStart = new File(target, "fast-start");
+
+        List<String> plain = List.of(java, "-jar", JAR, "--server.port=0");
+        List<String> tuned = List.of(java, "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true", "-jar", JAR, "--server.port=0");
+
+        // two rounds so the page cache is warm for both variants
+        run("plain jar", plain, target, runs);
+        run("fast-start", tuned, fastStart, runs);
+        run("plain jar", plain, target, runs);
+        run("fast-start", tuned, fastStart, runs);
+    }
+
+    private static void run(String name, List<String> command, File directory, int runs) throws Exception {
+        double[] wallClock = new double[runs];
+        double[] uptime = new double[runs];
+
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).directory(directory).redirectErrorStream(true).start();
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                Matcher matcher = null;
+                while ((line = reader.readLine()) != null) {
+                    matcher = STARTED.matcher(line);
+                    if (matcher.find()) {
+                        break;
+                    }
+                }
+
+                if (line == null) {
+                    throw new IllegalStateException(name + " exited before becoming ready (exit code " + process.waitFor() + ")");
+                }
+
+                wallClock[i] = (System.nanoTime() - start) / 1_000_000.0;
+                uptime[i] = Double.parseDouble(matcher.group(1)) * 1000;
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+
+        System.out.printf("%-10s  wall-clock median %6.0f ms (min %6.0f)   JVM uptime median %6.0f ms (min %6.0f)%n",
+                name, median(wallClock), Arrays.stream(wallClock).min().orElse(0),
+                median(uptime), Arrays.stream(uptime).min().orElse(0));
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
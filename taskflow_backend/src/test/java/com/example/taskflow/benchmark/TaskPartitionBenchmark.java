@@ -0,0 +1,165 @@
+package com.example.taskflow.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares an unpartitioned tasks table with the 16-way hash-partitioned layout from
+ * {@code V3__partition_tasks.sql} at scale. Both copies are loaded into a scratch schema with the same
+ * indexes, then timed on the project-scoped queries the repositories issue (point lookup, open-task
+ * listing, entity update), on the cross-partition member feed, and on vacuuming after a batch of updates
+ * to one project - the whole table for the flat layout, only the affected partition for the hashed one.
+ * <p>
+ * Run with: {@code mvn -q test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.taskflow.benchmark.TaskPartitionBenchmark -Dexec.args="<rows> [jdbc-url] [user] [password]"}
+ * (defaults: 5,000,000 rows against the local taskflow database). The scratch schema is dropped afterwards.
+ */
+public class TaskPartitionBenchmark {
+
+    private static final String SCHEMA = "partition_bench";
+    private static final int PROJECTS = 20_000;
+    private static final int MEMBERS = 100_000;
+    private static final int PARTITIONS = 16;
+    private static final int ITERATIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 5_000_000L;
+        String url = args.length > 1 ? args[1] : "jdbc:postgresql://localhost:5432/taskflow";
+        String user = args.length > 2 ? args[2] : "postgres";
+        String password = args.length > 3 ? args[3] : "";
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(true);
+
+            try {
+                load(connection, rows);
+
+                // two rounds so the second pair runs with warm caches
+                for (int round = 0; round < 2; round++) {
+                    run(connection, "flat", rows);
+                    run(connection, "hashed", rows);
+                }
+
+                vacuum(connection, "flat", "flat");
+                vacuum(connection, "hashed", partitionOf(connection, 42));
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+                }
+            }
+        }
+    }
+
+    private static void load(Connection connection, long rows) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+
+            String columns = """
+                (id BIGINT NOT NULL, title VARCHAR(255), description VARCHAR(255), status VARCHAR(255),
+                 priority VARCHAR(255), due_date DATE, project_id BIGINT NOT NULL, assigned_to BIGINT,
+                 PRIMARY KEY (id, project_id))
+                """;
+            statement.execute("CREATE TABLE flat " + columns);
+            statement.execute("CREATE TABLE hashed " + columns + " PARTITION BY HASH (project_id)");
+            for (int i = 0; i < PARTITIONS; i++) {
+                statement.execute("CREATE TABLE hashed_p" + i + " PARTITION OF hashed FOR VALUES WITH (MODULUS " + PARTITIONS + ", REMAINDER " + i + ")");
+            }
+
+            long start = System.nanoTime();
+            statement.execute("""
+                INSERT INTO flat
+                SELECT g, 'Task ' || g, 'Description of task ' || g,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g %% 3],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g %% 3],
+                       CURRENT_DATE + (g %% 60)::int, 1 + g %% %d, 1 + (g * 7) %% %d
+                FROM generate_series(1, %d) g
+                """.formatted(PROJECTS, MEMBERS, rows));
+            statement.execute("INSERT INTO hashed SELECT * FROM flat");
+
+            for (String table : new String[] {"flat", "hashed"}) {
+                statement.execute("CREATE INDEX ON " + table + " (assigned_to, status)");
+                statement.execute("CREATE INDEX ON " + table + " (project_id, status)");
+                statement.execute("VACUUM ANALYZE " + table);
+            }
+
+            System.out.printf("loaded %,d rows into both layouts in %.1f s%n", rows, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    private static void run(Connection connection, String table, long rows) throws Exception {
+        // rows were loaded with project 1 + id % PROJECTS and member 1 + (id * 7) % MEMBERS
+        System.out.printf("%-7s point lookup  %7.1f us%n", table,
+                time(connection, "SELECT * FROM " + table + " WHERE id = ? AND project_id = ?", rows, true,
+                        (statement, id) -> {
+                            statement.setLong(1, id);
+                            statement.setLong(2, 1 + id % PROJECTS);
+                        }));
+        System.out.printf("%-7s open tasks    %7.1f us%n", table,
+                time(connection, "SELECT * FROM " + table + " WHERE project_id = ? AND status IN ('TODO', 'IN_PROGRESS')", rows, true,
+                        (statement, id) -> statement.setLong(1, 1 + id % PROJECTS)));
+        System.out.printf("%-7s update        %7.1f us%n", table,
+                time(connection, "UPDATE " + table + " SET priority = 'HIGH' WHERE id = ? AND project_id = ?", rows, false,
+                        (statement, id) -> {
+                            statement.setLong(1, id);
+                            statement.setLong(2, 1 + id % PROJECTS);
+                        }));
+        System.out.printf("%-7s member feed   %7.1f us%n", table,
+                time(connection, "SELECT * FROM " + table + " WHERE assigned_to = ?", rows, true,
+                        (statement, id) -> statement.setLong(1, 1 + (id * 7) % MEMBERS)));
+    }
+
+    private static double time(Connection connection, String sql, long rows, boolean query, Binder binder) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            long start = 0;
+
+            for (int i = 0; i < ITERATIONS * 2; i++) {
+                if (i == ITERATIONS) {
+                    start = System.nanoTime();
+                }
+
+                binder.bind(statement, 1 + ThreadLocalRandom.current().nextLong(rows));
+
+                if (query) {
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            rs.getLong(1);
+                        }
+                    }
+                } else {
+                    statement.executeUpdate();
+                }
+            }
+
+            return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+        }
+    }
+
+    private static void vacuum(Connection connection, String table, String vacuumTarget) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE " + table + " SET status = 'DONE' WHERE project_id = 42");
+
+            long start = System.nanoTime();
+            statement.execute("VACUUM " + vacuumTarget);
+            System.out.printf("%-7s vacuum after updating one project (%s)  %7.1f ms%n", table, vacuumTarget, (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    private static String partitionOf(Connection connection, long projectId) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT tableoid::regclass FROM hashed WHERE project_id = " + projectId + " LIMIT 1")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement, long id) throws Exception;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.taskflow.benchmark;
+
+import com.example.taskflow.repository.TaskRepository;
+import org.flywaydb.core.Flyway;
+import org.springframework.data.jpa.repository.Query;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Measures task search latency at scale. The Flyway migrations are applied to a scratch schema, which is
+ * filled with synthetic users, projects and tasks; the native search queries from {@link TaskRepository}
+ * are then timed for manager-wide and project-scoped searches with full words, prefixes and rare terms.
+ * <p>
+ * Run with: {@code mvn -q test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.taskflow.benchmark.TaskSearchBenchmark -Dexec.args="<tasks> [jdbc-url] [user] [password]"}
+ * (defaults: 2,000,000 tasks against the local taskflow database). The scratch schema is dropped afterwards.
+ */
+public class TaskSearchBenchmark {
+
+    private static final String SCHEMA = "search_bench";
+    private static final int MANAGERS = 200;
+    private static final int MEMBERS = 20_000;
+    private static final int PROJECTS = 20_000;
+    private static final int ITERATIONS = 500;
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+
+    private static final String[] WORDS = {
+            "deploy", "service", "login", "database", "migration", "review", "frontend", "backend", "payment", "invoice",
+            "report", "dashboard", "cache", "search", "upload", "export", "import", "schedule", "notification", "email",
+            "profile", "settings", "security", "audit", "release", "pipeline", "monitoring", "alert", "latency", "timeout",
+            "refactor", "document", "onboarding", "customer", "checkout", "inventory", "analytics", "metrics", "billing", "session"
+    };
+
+    public static void main(String[] args) throws Exception {
+        long tasks = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000L;
+        String url = args.length > 1 ? args[1] : "jdbc:postgresql://localhost:5432/taskflow";
+        String user = args.length > 2 ? args[2] : "postgres";
+        String password = args.length > 3 ? args[3] : "";
+
+        Flyway flyway = Flyway.configure().dataSource(url, user, password).schemas(SCHEMA).cleanDisabled(false).load();
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            try {
+                flyway.migrate();
+                load(connection, tasks);
+
+                // two rounds so the second one runs with warm caches
+                for (int round = 0; round < 2; round++) {
+                    run(connection, "manager, word", "searchByManagerId", () -> word());
+                    run(connection, "manager, prefix", "searchByManagerId", () -> word().substring(0, 4) + ":*");
+                    run(connection, "manager, 2 words", "searchByManagerId", () -> word() + " & " + word());
+                    run(connection, "manager, rare term", "searchByManagerId", () -> "ticket" + ThreadLocalRandom.current().nextLong(tasks));
+                    run(connection, "project, word", "searchByProjectId", () -> word());
+                    run(connection, "project, prefix", "searchByProjectId", () -> word().substring(0, 4) + ":*");
+                }
+            } finally {
+                flyway.clean();
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+                }
+            }
+        }
+    }
+
+    private static void load(Connection connection, long tasks) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+
+            long start = System.nanoTime();
+            statement.execute("""
+                INSERT INTO users (name, email, password, role, status)
+                SELECT 'user ' || g, 'user' || g || '@taskflow.com', 'x', CASE WHEN g <= %d THEN 'MANAGER' ELSE 'MEMBER' END, true
+                FROM generate_series(1, %d) g
+                """.formatted(MANAGERS, MANAGERS + MEMBERS));
+            statement.execute("""
+                INSERT INTO projects (name, description, manager_id)
+                SELECT 'project ' || g, 'description', 1 + g %% %d
+                FROM generate_series(1, %d) g
+                """.formatted(MANAGERS, PROJECTS));
+
+            // three vocabulary words per title, two more plus a unique ticket number per description
+            String words = "ARRAY['" + String.join("', '", WORDS) + "']";
+            statement.execute("""
+                INSERT INTO tasks (title, description, status, priority, due_date, project_id, assigned_to)
+                SELECT w[1 + g %% %1$d] || ' ' || w[1 + (g / 7) %% %1$d] || ' ' || w[1 + (g / 53) %% %1$d],
+                       'Follow up on ' || w[1 + (g / 11) %% %1$d] || ' and ' || w[1 + (g / 97) %% %1$d] || ' for ticket' || g,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g %% 3],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g %% 3],
+                       CURRENT_DATE + (g %% 60)::int, 1 + g %% %2$d, %3$d + g %% %4$d
+                FROM generate_series(1, %5$d) g, (SELECT %6$s AS w) vocabulary
+                """.formatted(WORDS.length, PROJECTS, MANAGERS + 1, MEMBERS, tasks, words));
+            statement.execute("VACUUM ANALYZE");
+
+            System.out.printf("loaded %,d tasks in %.1f s%n", tasks, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    private static void run(Connection connection, String name, String method, QuerySupplier query) throws Exception {
+        String sql = sql(method);
+        List<String> parameters = NAMED_PARAMETER.matcher(sql).results().map(match -> match.group(1)).toList();
+        double[] latencies = new double[ITERATIONS];
+        long matches = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(NAMED_PARAMETER.matcher(sql).replaceAll("?"))) {
+            for (int i = 0; i < ITERATIONS; i++) {
+                long managerId = 1 + ThreadLocalRandom.current().nextInt(MANAGERS);
+                // projects are assigned to manager 1 + id % MANAGERS
+                long projectId = managerId - 1 + MANAGERS * (1 + ThreadLocalRandom.current().nextLong(PROJECTS / MANAGERS - 1));
+                Map<String, Object> values = Map.of("query", query.next(), "managerId", managerId, "projectId", projectId, "limit", 21, "offset", 0);
+
+                for (int p = 0; p < parameters.size(); p++) {
+                    statement.setObject(p + 1, values.get(parameters.get(p)));
+                }
+
+                long start = System.nanoTime();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        matches++;
+                    }
+                }
+                latencies[i] = (System.nanoTime() - start) / 1e6;
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("%-20s p50 %6.2f ms   p95 %6.2f ms   p99 %6.2f ms   (%.1f rows/query)%n", name,
+                latencies[ITERATIONS / 2], latencies[ITERATIONS * 95 / 100], latencies[ITERATIONS * 99 / 100], (double) matches / ITERATIONS);
+    }
+
+    private static String sql(String method) {
+        return Arrays.stream(TaskRepository.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals(method))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+    }
+
+    private static String word() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+
+    @FunctionalInterface
+    private interface QuerySupplier {
+        String next();
+    }
+}
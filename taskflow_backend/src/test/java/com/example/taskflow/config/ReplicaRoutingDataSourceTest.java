@@ -0,0 +1,161 @@
+package com.example.taskflow.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routes against two in-process H2 databases that each identify themselves through a "node" table.
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.exitClientRequest();
+    }
+
+    // TEST 1: Read-only transactions of a @ReplicaRead method go to the replica
+    @Test
+    void testReadOnlyTransaction_UsesReplica() {
+        assertEquals("replica", replicaRead());
+    }
+
+    // TEST 2: Read-write transactions go to the primary
+    @Test
+    void testReadWriteTransaction_UsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    // TEST 3: A client's write is stamped once it commits, not when it rolls back; the client reads from the primary
+    // until the replica has replayed past the stamp, while a client without a recent write keeps using the replica
+    @Test
+    void testReadYourWrites_PinsWriterToPrimaryUntilReplayed() {
+        List<Long> stamps = new ArrayList<>();
+        ReplicaRoutingDataSource.enterClientRequest(0, stamps::add);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of(), stamps);
+        assertEquals("replica", replicaRead());
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            assertEquals(List.of(), stamps);
+        });
+        assertEquals(1, stamps.size());
+        assertEquals("primary", replicaRead());
+
+        routingDataSource.setReplayedThrough(stamps.get(0));
+        assertEquals("replica", replicaRead());
+
+        // the next request of the client carries the stamp in its cookie
+        ReplicaRoutingDataSource.enterClientRequest(stamps.get(0) + 1, stamps::add);
+        assertEquals("primary", replicaRead());
+
+        ReplicaRoutingDataSource.enterClientRequest(0, stamps::add);
+        assertEquals("replica", replicaRead());
+    }
+
+    // TEST 4: Reads fall back to the primary while the replica is out of rotation
+    @Test
+    void testReplicaUnavailable_FallsBackToPrimary() {
+        routingDataSource.setReplicaAvailable(false);
+        assertEquals("primary", replicaRead());
+
+        routingDataSource.setReplicaAvailable(true);
+        assertEquals("replica", replicaRead());
+    }
+
+    // TEST 5: Read-only transactions outside a @ReplicaRead method (e.g. a repository's own, before a save) use the primary
+    @Test
+    void testUnmarkedReadOnlyTransaction_UsesPrimary() {
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        boolean nested = ReplicaRoutingDataSource.enterReplicaRead();
+        ReplicaRoutingDataSource.exitReplicaRead(ReplicaRoutingDataSource.enterReplicaRead());
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        ReplicaRoutingDataSource.exitReplicaRead(nested);
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    // what ReplicaReadAspect does around a @ReplicaRead method
+    private String replicaRead() {
+        boolean nested = ReplicaRoutingDataSource.enterReplicaRead();
+        try {
+            return readOnly.execute(status -> currentNode());
+        } finally {
+            ReplicaRoutingDataSource.exitReplicaRead(nested);
+        }
+    }
+
+    private String currentNode() {
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM node", String.class);
+        return names.get(0);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    // TEST 6: The replica counts as replayed through the time of the latest primary WAL sample it has reached
+    @Test
+    void testLagMonitor_AdvancesReplayedThroughOnceReplicaReachesSample() {
+        JdbcTemplate primaryWal = mock(JdbcTemplate.class);
+        JdbcTemplate replicaWal = mock(JdbcTemplate.class);
+        when(replicaWal.queryForObject("lag", Long.class)).thenReturn(0L);
+        when(primaryWal.queryForObject(anyString(), eq(String.class))).thenReturn("1/A0");
+        when(replicaWal.queryForObject(anyString(), eq(String.class))).thenReturn("1/9F", "1/A0");
+        ReplicaDataSourceConfig.ReplicaLagMonitor monitor = new ReplicaDataSourceConfig.ReplicaLagMonitor(routingDataSource, primaryWal, replicaWal, "lag", 2000);
+
+        ReplicaRoutingDataSource.enterClientRequest(System.currentTimeMillis() - 1, committedAt -> {});
+        monitor.check();
+        assertEquals("primary", replicaRead());
+
+        monitor.check();
+        assertEquals("replica", replicaRead());
+        assertEquals(0x1_0000_00A0L, ReplicaDataSourceConfig.ReplicaLagMonitor.lsn("1/A0"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskflow.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SamplingTurboFilterTest {
+
+    private Logger logger;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("sampling-test");
+        logger.setLevel(Level.INFO);
+
+        filter = new SamplingTurboFilter();
+        filter.setIntervalMs(60_000);
+        filter.setBurst(3);
+        filter.setSampleRate(5);
+    }
+
+    private int passed(Level level, String format, int events) {
+        int passed = 0;
+        for (int i = 0; i < events; i++) {
+            if(filter.decide(null, logger, level, format, null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+
+    // TEST 1: After the burst only every sampleRate-th event of a call site is logged
+    @Test
+    void testDecide_SamplesAfterBurst() {
+        long sampledOut = SamplingTurboFilter.sampledOutCount();
+
+        // 3 burst events, then events 8, 13, 18, 23
+        assertEquals(7, passed(Level.WARN, "No token found in request", 23));
+        assertEquals(16, SamplingTurboFilter.sampledOutCount() - sampledOut);
+
+        // another call site has its own budget
+        assertEquals(3, passed(Level.INFO, "Fetching dashboard for manager ID: {}", 3));
+    }
+
+    // TEST 2: Errors and disabled levels are left alone
+    @Test
+    void testDecide_IgnoresErrorsAndDisabledLevels() {
+        assertEquals(50, passed(Level.ERROR, "Failed to send email", 50));
+        assertEquals(50, passed(Level.DEBUG, "Cache miss for {}", 50));
+    }
+}
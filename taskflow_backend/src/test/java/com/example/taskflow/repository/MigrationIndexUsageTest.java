@@ -0,0 +1,201 @@
+package com.example.taskflow.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the Flyway migrations to a real PostgreSQL instance and checks that the native repository
+ * queries are planned with the hot-path indexes. Sequential scans are disabled so the assertions hold
+ * regardless of table size; a query that cannot use an index still falls back to a seq scan and fails.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class MigrationIndexUsageTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Pattern PARTITION = Pattern.compile("\\btasks_p\\d+\\b");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            INSERT INTO users (name, email, password, role, status)
+            SELECT 'member_' || g, 'member_' || g || '@taskflow.com', 'x',
+                   CASE WHEN g <= 50 THEN 'MANAGER' ELSE 'MEMBER' END, true
+            FROM generate_series(1, 5000) g
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO projects (name, description, manager_id)
+            SELECT 'project_' || g, 'description', 1 + g % 50
+            FROM generate_series(1, 5000) g
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO project_member (project_id, member_id)
+            SELECT p, 51 + (p * 7 + m) % 4950
+            FROM generate_series(1, 5000) p, generate_series(1, 5) m
+            ON CONFLICT DO NOTHING
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO tasks (title, description, status, priority, due_date, project_id, assigned_to)
+            SELECT 'task_' || g, 'description',
+                   (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                   (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g % 3],
+                   CURRENT_DATE + g % 30, 1 + g % 5000, 51 + g % 4950
+            FROM generate_series(1, 50000) g
+            """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // TEST 1: Member search uses the lower(name) expression index (prefix escaped the way UserService does)
+    @Test
+    void testSearchAvailableMembers_UsesLowerNameIndex() {
+        String plan = explain(UserRepository.class, "searchAvailableMembers", Map.of("prefix", "'member\\_1234%'", "projectId", "1"));
+        assertTrue(plan.contains("idx_users_lower_name"), plan);
+    }
+
+    // TEST 2: Availability check probes one tasks partition through an index instead of scanning
+    @Test
+    void testFindAvailableForTask_UsesTaskIndex() {
+        String plan = explain(UserRepository.class, "findAvailableForTask", Map.of("projectId", "1"));
+        assertTrue(plan.contains("_status_idx"), plan);
+        assertTrue(plan.contains("uk_project_member"), plan);
+        assertEquals(1, partitionsIn(plan), plan);
+    }
+
+    // TEST 3: Manager task stats start from the projects(manager_id) index
+    @Test
+    void testFindTaskStatsByManagerId_UsesManagerIndex() {
+        String plan = explain(TaskRepository.class, "findTaskStatsByManagerId", Map.of("managerId", "1"));
+        assertTrue(plan.contains("idx_projects_manager_id"), plan);
+        assertTrue(plan.contains("project_id_status_idx"), plan);
+    }
+
+    // TEST 4: Manager member count starts from the projects(manager_id) index
+    @Test
+    void testCountMembersByManagerId_UsesManagerIndex() {
+        String plan = explain(ProjectRepository.class, "countMembersByManagerId", Map.of("managerId", "1"));
+        assertTrue(plan.contains("idx_projects_manager_id"), plan);
+    }
+
+    // TEST 5: Member task feed uses the (assigned_to, status) index
+    @Test
+    void testMemberFeed_UsesAssignedToIndex() {
+        String plan = explainSql("SELECT * FROM tasks t WHERE t.assigned_to = 51");
+        assertTrue(plan.contains("assigned_to_status_idx"), plan);
+    }
+
+    // TEST 6: Chunked project cleanup prunes both the DELETE and its subquery to one partition
+    @Test
+    void testDeleteChunkByProjectId_PrunesToOnePartition() {
+        String plan = explain(TaskRepository.class, "deleteChunkByProjectId", Map.of("projectId", "1", "limit", "1000"));
+        assertEquals(1, partitionsIn(plan), plan);
+    }
+
+    // TEST 7: Entity updates carry the partition key (Task.projectId) and touch one partition
+    @Test
+    void testEntityUpdate_PrunesToOnePartition() {
+        String plan = explainSql("UPDATE tasks SET status = 'DONE' WHERE id = 1 AND project_id = 2");
+        assertEquals(1, partitionsIn(plan), plan);
+    }
+
+    // TEST 8: Archival batches find old DONE tasks through the partial completed_at index
+    @Test
+    void testArchiveCompletedBefore_UsesCompletedAtIndex() {
+        String plan = explain(ArchivedTaskRepository.class, "archiveCompletedBefore", Map.of("cutoff", "'2000-01-01'", "limit", "1000"));
+        assertTrue(plan.contains("completed_at_idx"), plan);
+    }
+
+    // TEST 9: Project-scoped search stays on one partition and its project_id index
+    @Test
+    void testSearchByProjectId_UsesSearchIndex() {
+        String plan = explain(TaskRepository.class, "searchByProjectId",
+                Map.of("query", "'task_12:*'", "projectId", "1", "managerId", "2", "limit", "21", "offset", "0"));
+        assertTrue(plan.contains("project_id_search_vector_idx") || plan.contains("project_id_status_idx"), plan);
+        assertEquals(1, partitionsIn(plan), plan);
+    }
+
+    // TEST 10: Manager-wide search probes each project through a project_id index
+    @Test
+    void testSearchByManagerId_UsesSearchIndex() {
+        String plan = explain(TaskRepository.class, "searchByManagerId",
+                Map.of("query", "'task_12345:*'", "managerId", "2", "limit", "21", "offset", "0"));
+        assertTrue(plan.contains("project_id_search_vector_idx") || plan.contains("project_id_status_idx"), plan);
+    }
+
+    // TEST 11: Reminder horizon load reads open tasks through the partial due_date index
+    @Test
+    void testFindPendingReminders_UsesDueDateIndex() {
+        String plan = explain(TaskRepository.class, "findPendingReminders",
+                Map.of("from", "CURRENT_DATE - 7", "until", "CURRENT_DATE + 2"));
+        assertTrue(plan.contains("_due_date_idx"), plan);
+    }
+
+    // TEST 12: Reminder claims only touch the partitions of the claimed tasks' projects
+    @Test
+    void testClaimReminders_PrunesToProjectPartitions() {
+        String plan = explain(TaskRepository.class, "claimReminders", Map.of("ids", "1, 2", "projectIds", "2, 3"));
+        assertTrue(partitionsIn(plan) <= 2, plan);
+    }
+
+    private static long partitionsIn(String plan) {
+        return PARTITION.matcher(plan).results().map(MatchResult::group).distinct().count();
+    }
+
+    private static String explain(Class<?> repository, String methodName, Map<String, String> parameters) {
+        Method method = Arrays.stream(repository.getDeclaredMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        String sql = method.getAnnotation(Query.class).value();
+
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(parameters.get(matcher.group(1))));
+        }
+        matcher.appendTail(bound);
+
+        return explainSql(bound.toString());
+    }
+
+    private static String explainSql(String sql) {
+        return jdbcTemplate.execute((Statement statement) -> {
+            statement.execute("SET enable_seqscan = off");
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.dto.ArchivedTaskResponse;
+import com.example.taskflow.dto.AuthResponse;
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.RoleType;
+import com.example.taskflow.enums.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CodedEnumSerializerTest {
+
+    private final ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory()).findAndRegisterModules().registerModule(CodedEnumSerializer.module());
+
+    // TEST 1: The CBOR codes are part of the wire format; a changed code here breaks every CBOR client
+    @Test
+    void testCodes_ArePinned() {
+        assertArrayEquals(new TaskStatus[] {TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE}, TaskStatus.values());
+        assertEquals(1, TaskStatus.TODO.code());
+        assertEquals(2, TaskStatus.IN_PROGRESS.code());
+        assertEquals(3, TaskStatus.DONE.code());
+
+        assertArrayEquals(new PriorityType[] {PriorityType.LOW, PriorityType.MEDIUM, PriorityType.HIGH}, PriorityType.values());
+        assertEquals(1, PriorityType.LOW.code());
+        assertEquals(2, PriorityType.MEDIUM.code());
+        assertEquals(3, PriorityType.HIGH.code());
+
+        assertArrayEquals(new RoleType[] {RoleType.ADMIN, RoleType.MANAGER, RoleType.MEMBER}, RoleType.values());
+        assertEquals(1, RoleType.ADMIN.code());
+        assertEquals(2, RoleType.MANAGER.code());
+        assertEquals(3, RoleType.MEMBER.code());
+    }
+
+    // TEST 2: CBOR carries the codes, from the hand-written and the reflective serializers alike; JSON keeps the names
+    @Test
+    void testCbor_WritesCodesJsonWritesNames() throws Exception {
+        TaskResponse task = new TaskResponse(4L, "Task 4", "d", LocalDate.of(2026, 10, 19), TaskStatus.IN_PROGRESS, PriorityType.HIGH);
+        AuthResponse auth = new AuthResponse(2L, "Manager", "mgr@t.com", "token", RoleType.MEMBER);
+        ArchivedTaskResponse archived = new ArchivedTaskResponse();
+        archived.setPriority(PriorityType.MEDIUM);
+
+        JsonNode cborTask = cbor.readTree(cbor.writeValueAsBytes(task));
+        assertEquals(2, cborTask.get("status").intValue());
+        assertEquals(3, cborTask.get("priority").intValue());
+        assertEquals(3, cbor.readTree(cbor.writeValueAsBytes(auth)).get("role").intValue());
+        assertEquals(2, cbor.readTree(cbor.writeValueAsBytes(archived)).get("priority").intValue());
+
+        JsonNode jsonTask = json.readTree(json.writeValueAsString(task));
+        assertEquals("IN_PROGRESS", jsonTask.get("status").textValue());
+        assertEquals("HIGH", jsonTask.get("priority").textValue());
+        assertEquals("MEMBER", json.readTree(json.writeValueAsString(auth)).get("role").textValue());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.taskflow.serializer;
+
+import com.example.taskflow.dto.AuthResponse;
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.RoleType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.utils.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The hand-written serializers must write exactly what reflective Jackson would, with the application's
+ * Jackson defaults: same field names and order, null handling, date formats and enum representation.
+ */
+public class ResponseSerializerEquivalenceTest {
+
+    private final ObjectMapper handWritten = builder().build();
+    private final ObjectMapper reflective = builder().annotationIntrospector(new IgnoreSerializers()).build();
+    private final ObjectMapper handWrittenCbor = cbor(builder());
+    private final ObjectMapper reflectiveCbor = cbor(builder().annotationIntrospector(new IgnoreSerializers()));
+
+    // Spring Boot's defaults on top of Spring's: dates as ISO-8601 strings
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    // same configuration, but @JsonSerialize is ignored so the reflective bean serializers are used
+    private static class IgnoreSerializers extends JacksonAnnotationIntrospector {
+        @Override
+        public Object findSerializer(Annotated a) {
+            return null;
+        }
+    }
+
+    // as WebConfig sets up the CBOR converter
+    private static ObjectMapper cbor(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).postConfigurer(mapper -> mapper.registerModule(CodedEnumSerializer.module())).build();
+    }
+
+    private void assertEquivalent(Object value) throws Exception {
+        assertEquals(reflective.writeValueAsString(value), handWritten.writeValueAsString(value));
+        assertArrayEquals(reflectiveCbor.writeValueAsBytes(value), handWrittenCbor.writeValueAsBytes(value));
+    }
+
+    // TEST 1: Task responses with every status and priority, every field set or every field null
+    @Test
+    void testTaskResponse_MatchesReflective() throws Exception {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (PriorityType priority : PriorityType.values()) {
+                TaskResponse task = new TaskResponse(4L, "Task \"4\", ü\n", "d\\e", LocalDate.of(2026, 3, 9), status, priority);
+                task.setProjectName("Proj A");
+                task.setAssignedTo("mem1");
+                assertEquivalent(task);
+            }
+        }
+        assertEquivalent(new TaskResponse());
+        assertEquivalent(new TaskResponse(4L, "Task 4"));
+    }
+
+    // TEST 2: Due dates with short and long years take the same format as reflective serialization
+    @Test
+    void testTaskResponse_DueDateFormats() throws Exception {
+        for (LocalDate dueDate : List.of(LocalDate.of(2026, 12, 31), LocalDate.of(999, 1, 5), LocalDate.of(10_000, 1, 1), LocalDate.of(-1, 6, 15))) {
+            TaskResponse task = new TaskResponse();
+            task.setDueDate(dueDate);
+            assertEquivalent(task);
+        }
+    }
+
+    // TEST 3: Auth responses with every role, and with only some fields set
+    @Test
+    void testAuthResponse_MatchesReflective() throws Exception {
+        for (RoleType role : RoleType.values()) {
+            assertEquivalent(new AuthResponse(2L, "Manager", "mgr@t.com", "a.b.c", role));
+        }
+        assertEquivalent(new AuthResponse(2L, "Manager", "mgr@t.com"));
+        assertEquivalent(new AuthResponse());
+    }
+
+    // TEST 4: The envelope, with list, null and nested payloads and timestamps with and without fractions of a second
+    @Test
+    void testResponseHandler_MatchesReflective() throws Exception {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (long i = 0; i < 9; i++) {
+            tasks.add(new TaskResponse(i, "Task " + i, null, LocalDate.of(2026, 10, 1).plusDays(i),
+                    TaskStatus.values()[(int) (i % 3)], PriorityType.values()[(int) (i / 3)]));
+        }
+
+        for (LocalDateTime timestamp : List.of(LocalDateTime.of(2026, 10, 19, 17, 0), LocalDateTime.of(2026, 10, 19, 17, 0, 5),
+                LocalDateTime.of(2026, 10, 19, 17, 0, 5, 120_000_000), LocalDateTime.of(2026, 10, 19, 17, 0, 5, 123_456_789))) {
+            ResponseHandler<List<TaskResponse>> response = ResponseHandler.success("Tasks fetched successfully.", tasks, 200);
+            response.setTimestamp(timestamp);
+            assertEquivalent(response);
+        }
+
+        ResponseHandler<Object> error = ResponseHandler.error(null, 404);
+        assertEquivalent(error);
+        error.setTimestamp(null);
+        assertEquivalent(error);
+        assertEquivalent(ResponseHandler.success("Logged in.", new AuthResponse(3L, RoleType.MEMBER), 200));
+    }
+}
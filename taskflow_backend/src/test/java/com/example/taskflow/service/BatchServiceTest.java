@@ -0,0 +1,134 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.BatchRequest;
+import com.example.taskflow.dto.BatchResponse;
+import com.example.taskflow.dto.ProjectRequest;
+import com.example.taskflow.dto.ProjectResponse;
+import com.example.taskflow.dto.TaskRequest;
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.exception.GlobalExceptionHandler;
+import com.example.taskflow.utils.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchServiceTest {
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Authentication manager = new UsernamePasswordAuthenticationToken("2", null, List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new BatchService(projectService, taskService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, new GlobalExceptionHandler(), 10);
+    }
+
+    private BatchRequest.Operation operation(String method, String path, String body) throws Exception {
+        return new BatchRequest.Operation(method, path, body != null ? objectMapper.readTree(body) : null);
+    }
+
+    private static ResponseEntity<ResponseHandler<ProjectResponse>> created(ProjectResponse project) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(ResponseHandler.success("Project created.", project, HttpStatus.CREATED.value()));
+    }
+
+    // TEST 1: Later operations can reference the data of earlier ones in paths and bodies
+    @Test
+    void testExecute_ResolvesReferences() throws Exception {
+        when(projectService.create(any(ProjectRequest.class), eq(2L))).thenReturn(created(new ProjectResponse(7L, "Proj A", "d")));
+        when(taskService.create(eq(7L), any(TaskRequest.class)))
+                .thenReturn(ResponseEntity.ok(ResponseHandler.success("Task created.", new TaskResponse(11L, "Kickoff"), 200)));
+
+        BatchRequest request = new BatchRequest(List.of(
+                operation("POST", "/api/v1/managers/projects", "{\"name\":\"Proj A\",\"description\":\"First project\"}"),
+                operation("post", "/api/v1/managers/projects/{{0.id}}/tasks",
+                        "{\"memberId\":3,\"taskTitle\":\"Kickoff for {{0.name}}\",\"dueDate\":\"2099-01-01\",\"status\":\"todo\",\"priority\":\"high\"}")
+        ), false);
+
+        ResponseEntity<ResponseHandler<BatchResponse>> response = batchService.execute(request, manager);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<BatchResponse.Result> results = response.getBody().getData().getResults();
+        assertEquals(201, results.get(0).getStatus());
+        assertEquals(200, results.get(1).getStatus());
+
+        ArgumentCaptor<TaskRequest> task = ArgumentCaptor.forClass(TaskRequest.class);
+        verify(taskService).create(eq(7L), task.capture());
+        assertEquals("Kickoff for Proj A", task.getValue().getTaskTitle());
+        verifyNoInteractions(transactionManager);
+    }
+
+    // TEST 2: Each operation gets its endpoint's role and body checks, and a failure stops the batch
+    @Test
+    void testExecute_StopsAtFirstFailure() throws Exception {
+        BatchRequest request = new BatchRequest(List.of(
+                operation("POST", "/api/v1/managers/projects", "{\"name\":\"\"}"),
+                operation("GET", "/api/v1/members/tasks/my", null)
+        ), false);
+
+        ResponseEntity<ResponseHandler<BatchResponse>> response = batchService.execute(request, manager);
+        List<BatchResponse.Result> results = response.getBody().getData().getResults();
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(400, results.get(0).getStatus());
+        assertEquals(424, results.get(1).getStatus());
+        verifyNoInteractions(projectService, taskService);
+
+        BatchResponse forbidden = batchService.execute(new BatchRequest(List.of(operation("GET", "/api/v1/members/tasks/my", null)), false), manager)
+                .getBody().getData();
+        assertEquals(403, forbidden.getResults().get(0).getStatus());
+    }
+
+    // TEST 3: A failed transactional batch is rolled back as a whole
+    @Test
+    void testExecute_RollsBackTransactionalBatch() throws Exception {
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(projectService.create(any(ProjectRequest.class), eq(2L))).thenReturn(created(new ProjectResponse(7L, "Proj A", "d")));
+        when(projectService.getProjectById(8L)).thenReturn(ResponseHandler.notFound("Project not found."));
+
+        BatchRequest request = new BatchRequest(List.of(
+                operation("POST", "/api/v1/managers/projects", "{\"name\":\"Proj A\",\"description\":\"First project\"}"),
+                operation("GET", "/api/v1/managers/projects/8", null)
+        ), true);
+
+        ResponseEntity<ResponseHandler<BatchResponse>> response = batchService.execute(request, manager);
+
+        assertFalse(response.getBody().isSuccess());
+        assertTrue(response.getBody().getData().isRolledBack());
+        assertEquals(404, response.getBody().getData().getResults().get(1).getStatus());
+        // the template hands a rollback-only status to commit(), which rolls it back
+        assertTrue(transaction.isRollbackOnly());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.BurndownPoint;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BurndownServiceTest {
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BurndownService burndownService;
+
+    @BeforeEach
+    void setUp() {
+        burndownService = new BurndownService(projectRepository, transactionManager, 366);
+    }
+
+    // TEST 1: Days without a row repeat the latest earlier row, including one from before the range
+    @Test
+    void testSeries_CarriesCountsForward() {
+        LocalDate start = LocalDate.of(2026, 9, 1);
+        List<Object[]> rows = List.of(
+                new Object[] {Date.valueOf("2026-08-20"), 10, 2, 5},
+                new Object[] {Date.valueOf("2026-09-03"), 8, 3, 6},
+                new Object[] {LocalDate.of(2026, 9, 4), 6, 3, 8});
+
+        List<BurndownPoint> points = BurndownService.series(start, start.plusDays(5), rows);
+
+        assertEquals(6, points.size());
+        assertEquals(new BurndownPoint(start, 10, 2, 5), points.get(0));
+        assertEquals(new BurndownPoint(start.plusDays(1), 10, 2, 5), points.get(1));
+        assertEquals(new BurndownPoint(start.plusDays(2), 8, 3, 6), points.get(2));
+        assertEquals(new BurndownPoint(start.plusDays(5), 6, 3, 8), points.get(5));
+
+        List<BurndownPoint> empty = BurndownService.series(start, start.plusDays(1), List.of());
+        assertEquals(new BurndownPoint(start.plusDays(1), 0, 0, 0), empty.get(1));
+    }
+
+    // TEST 2: Each status change appends one delta row for today, and a batch of new tasks appends one in total
+    @Test
+    void testStatusChanged_AppendsDeltaRows() {
+        LocalDate today = LocalDate.now();
+        burndownService.statusChanged(1L, null, TaskStatus.TODO);
+        burndownService.statusChanged(1L, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+        burndownService.statusChanged(1L, TaskStatus.DONE, TaskStatus.DONE);
+        burndownService.statusChanged(1L, TaskStatus.TODO, null);
+        burndownService.tasksCreated(2L, List.of(TaskStatus.TODO, TaskStatus.TODO, TaskStatus.DONE));
+
+        verify(projectRepository).insertDailyDelta(1L, today, 1, 0, 0);
+        verify(projectRepository).insertDailyDelta(1L, today, 0, -1, 1);
+        verify(projectRepository).insertDailyDelta(1L, today, -1, 0, 0);
+        verify(projectRepository).insertDailyDelta(2L, today, 2, 0, 1);
+        verifyNoMoreInteractions(projectRepository);
+    }
+
+    // TEST 3: A flush takes the summed deltas under the lock and applies them in the same transaction; with no
+    // deltas nothing is written, and a failed flush leaves the deltas for the next one
+    @Test
+    void testFlush_AppliesTakenDeltasUnderLock() {
+        LocalDate today = LocalDate.now();
+        when(projectRepository.takeDailyDeltas()).thenReturn(List.<Object[]>of(
+                new Object[] {1L, Date.valueOf(today), 0, -1, 1},
+                new Object[] {2L, Date.valueOf(today), 2, 0, 1}));
+        burndownService.flush();
+
+        InOrder order = inOrder(projectRepository);
+        order.verify(projectRepository).lockDailyCounts();
+        order.verify(projectRepository).takeDailyDeltas();
+        order.verify(projectRepository).openDailyCounts(aryEq(new Long[] {1L, 2L}), aryEq(new LocalDate[] {today, today}));
+        ArgumentCaptor<Integer[]> todo = ArgumentCaptor.forClass(Integer[].class);
+        ArgumentCaptor<Integer[]> inProgress = ArgumentCaptor.forClass(Integer[].class);
+        ArgumentCaptor<Integer[]> done = ArgumentCaptor.forClass(Integer[].class);
+        order.verify(projectRepository).addDailyCounts(any(), any(), todo.capture(), inProgress.capture(), done.capture());
+        assertArrayEquals(new Integer[] {0, 2}, todo.getValue());
+        assertArrayEquals(new Integer[] {-1, 0}, inProgress.getValue());
+        assertArrayEquals(new Integer[] {1, 1}, done.getValue());
+
+        when(projectRepository.takeDailyDeltas()).thenReturn(List.of());
+        burndownService.flush();
+        verify(projectRepository, times(1)).openDailyCounts(any(), any());
+
+        when(projectRepository.takeDailyDeltas()).thenThrow(new QueryTimeoutException("timeout"));
+        burndownService.flush();
+        verify(projectRepository, times(1)).addDailyCounts(any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.utils.LocalInvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheInvalidationBusTest {
+
+    // two nodes sharing one transport; a window of one hour, so only the explicit flush() sends
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+    private final List<String> messages = new ArrayList<>();
+    private final CacheInvalidationBus nodeA = new CacheInvalidationBus(transport, new SimpleMeterRegistry(), 3_600_000, 3);
+    private final CacheInvalidationBus nodeB = new CacheInvalidationBus(transport, new SimpleMeterRegistry(), 3_600_000, 3);
+
+    {
+        transport.subscribe(messages::add);
+    }
+
+    // TEST 1: Keys published within a window are deduplicated into one message for the other nodes
+    @Test
+    void testFlush_CoalescesKeysIntoOneMessage() {
+        List<String> receivedByA = new ArrayList<>();
+        List<String> receivedByB = new ArrayList<>();
+        nodeA.subscribe("feed", receivedByA::add);
+        nodeB.subscribe("feed", receivedByB::add);
+
+        nodeA.publish("feed", 3L);
+        nodeA.publish("feed", 3L);
+        nodeA.publish("feed", 4L);
+        nodeA.flush();
+        nodeA.flush();
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).endsWith("|feed:3,feed:4"), messages.get(0));
+        assertEquals(List.of("3", "4"), receivedByB);
+        assertEquals(List.of(), receivedByA);
+    }
+
+    // TEST 2: A cache-wide invalidation (or too many pending keys) replaces the pending keys of that cache
+    @Test
+    void testPublishAll_ReplacesPendingKeys() {
+        List<String> received = new ArrayList<>();
+        nodeB.subscribe("feed", received::add);
+        nodeB.subscribe("revocation", received::add);
+
+        nodeA.publish("feed", 3L);
+        nodeA.publish("revocation", CacheInvalidationBus.ALL);
+        nodeA.publishAll("feed");
+        nodeA.publish("feed", 5L);
+        nodeA.flush();
+        assertEquals(List.of("*", "*"), received);
+
+        received.clear();
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            nodeA.publish("feed", memberId);
+        }
+        nodeA.flush();
+        assertEquals(List.of("*"), received);
+    }
+
+    // TEST 3: A feed written on one node is dropped from the other node's cache
+    @Test
+    void testTaskFeedCache_EvictsOnOtherNodes() {
+        CacheInvalidationBus busA = new CacheInvalidationBus(transport, new SimpleMeterRegistry(), 0, 100);
+        CacheInvalidationBus busB = new CacheInvalidationBus(transport, new SimpleMeterRegistry(), 0, 100);
+        TaskFeedCache cacheA = new TaskFeedCache(new SimpleMeterRegistry(), busA, true, 10, 60_000);
+        TaskFeedCache cacheB = new TaskFeedCache(new SimpleMeterRegistry(), busB, true, 10, 60_000);
+        AtomicInteger loadsB = new AtomicInteger();
+
+        cacheA.get(1L, List::of);
+        cacheB.get(1L, () -> {
+            loadsB.incrementAndGet();
+            return List.of();
+        });
+
+        cacheA.put(1L, new TaskResponse(9L, "New task"));
+
+        assertEquals(1, cacheA.getIfPresent(1L).size());
+        cacheB.get(1L, () -> {
+            loadsB.incrementAndGet();
+            return List.of(new TaskResponse(9L, "New task"));
+        });
+        assertEquals(2, loadsB.get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.DashboardResponse;
+import com.example.taskflow.dto.ProjectResponse;
+import com.example.taskflow.dto.TaskStatsDTO;
+import com.example.taskflow.utils.ResponseHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(projectService, taskService, transactionManager, 4, 16, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.destroy();
+    }
+
+    // TEST 1: Sections run concurrently, so the dashboard takes about as long as the slowest one
+    @Test
+    void testGetDashboard_RunsSectionsInParallel() {
+        when(projectService.getProjects(2L)).thenAnswer(invocation -> slow(List.of(new ProjectResponse(1L, "Proj A", "d")), 200));
+        when(projectService.getTotalMembersByManagerId(2L)).thenAnswer(invocation -> slow(5L, 200));
+        when(taskService.getTaskStatsByManagerId(2L)).thenAnswer(invocation -> slow(new TaskStatsDTO(10, 4, 40.0), 200));
+
+        long start = System.nanoTime();
+        ResponseEntity<ResponseHandler<DashboardResponse>> response = dashboardService.getDashboard(2L);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        DashboardResponse dashboard = response.getBody().getData();
+        assertEquals("Dashboard fetched successfully.", response.getBody().getMessage());
+        assertEquals(1, dashboard.getProjects().size());
+        assertEquals(5L, dashboard.getTotalMembers());
+        assertEquals(10, dashboard.getTaskStats().getTotalTasks());
+        assertNull(dashboard.getUnavailable());
+        assertTrue(elapsedMs < 500, "took " + elapsedMs + " ms");
+    }
+
+    // TEST 2: A section that times out or fails is reported while the others are still returned
+    @Test
+    void testGetDashboard_ReturnsPartialResults() {
+        when(projectService.getProjects(2L)).thenAnswer(invocation -> slow(List.of(), 0));
+        when(projectService.getTotalMembersByManagerId(2L)).thenAnswer(invocation -> slow(5L, 2_000));
+        when(taskService.getTaskStatsByManagerId(2L)).thenReturn(ResponseEntity.internalServerError()
+                .body(ResponseHandler.error("Failed to fetch task stats.", HttpStatus.INTERNAL_SERVER_ERROR.value())));
+
+        ResponseEntity<ResponseHandler<DashboardResponse>> response = dashboardService.getDashboard(2L);
+
+        DashboardResponse dashboard = response.getBody().getData();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("Dashboard partially fetched.", response.getBody().getMessage());
+        assertNotNull(dashboard.getProjects());
+        assertNull(dashboard.getTotalMembers());
+        assertEquals(List.of("totalMembers", "taskStats"), dashboard.getUnavailable());
+    }
+
+    // TEST 3: A section that finds nothing is returned empty, not reported as unavailable
+    @Test
+    void testGetDashboard_NotFoundSectionsAreEmpty() {
+        when(projectService.getProjects(2L)).thenReturn(ResponseHandler.notFound("No projects found."));
+        when(projectService.getTotalMembersByManagerId(2L)).thenAnswer(invocation -> slow(0L, 0));
+        when(taskService.getTaskStatsByManagerId(2L)).thenReturn(ResponseHandler.notFound("No task stats found."));
+
+        ResponseEntity<ResponseHandler<DashboardResponse>> response = dashboardService.getDashboard(2L);
+
+        DashboardResponse dashboard = response.getBody().getData();
+        assertEquals("Dashboard fetched successfully.", response.getBody().getMessage());
+        assertEquals(List.of(), dashboard.getProjects());
+        assertEquals(0, dashboard.getTaskStats().getTotalTasks());
+        assertNull(dashboard.getUnavailable());
+    }
+
+    private static <T> ResponseEntity<ResponseHandler<T>> slow(T data, long delayMs) throws InterruptedException {
+        Thread.sleep(delayMs);
+        return ResponseEntity.ok(ResponseHandler.success("ok", data, HttpStatus.OK.value()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.User;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.utils.LocalInvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InactiveUserRegistryTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalInvalidationTransport transport = new LocalInvalidationTransport();
+
+    private InactiveUserRegistry registry() {
+        InactiveUserRegistry registry = new InactiveUserRegistry(userRepository, new CacheInvalidationBus(transport, new SimpleMeterRegistry(), 0, 100),
+                transactionManager);
+        registry.start();
+        return registry;
+    }
+
+    // TEST 1: Inactive users are loaded at startup and status changes apply immediately
+    @Test
+    void testIsInactive_LoadedAndUpdated() {
+        when(userRepository.findInactiveUserIds()).thenReturn(List.of(4L, 70_000L));
+        InactiveUserRegistry registry = registry();
+
+        assertTrue(registry.isInactive(4L));
+        assertTrue(registry.isInactive(70_000L));
+        assertFalse(registry.isInactive(5L));
+        assertFalse(registry.isInactive(10_000_000_000L));
+
+        registry.setInactive(5L, true);
+        registry.setInactive(4L, false);
+        assertTrue(registry.isInactive(5L));
+        assertFalse(registry.isInactive(4L));
+    }
+
+    // TEST 2: A deactivation on one node reaches the other nodes' registries
+    @Test
+    void testSetInactive_PropagatesToOtherNodes() {
+        when(userRepository.findInactiveUserIds()).thenReturn(List.of());
+        InactiveUserRegistry nodeA = registry();
+        InactiveUserRegistry nodeB = registry();
+
+        User user = new User();
+        user.setId(3L);
+        user.setStatus(false);
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+
+        nodeA.setInactive(3L, true);
+        assertTrue(nodeB.isInactive(3L));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.config.WebConfig;
+import com.example.taskflow.controller.ManagerController;
+import com.example.taskflow.enums.ExportFormat;
+import com.example.taskflow.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exports from an in-process H2 database holding the columns the export query reads.
+ */
+public class TaskExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:export;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+        jdbc.execute("CREATE TABLE projects (id BIGINT PRIMARY KEY, name VARCHAR(255), manager_id BIGINT, deleted_at TIMESTAMP)");
+        jdbc.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, title VARCHAR(255), description VARCHAR(1000), status VARCHAR(20), "
+                + "priority VARCHAR(20), due_date DATE, project_id BIGINT, assigned_to BIGINT)");
+
+        jdbc.update("INSERT INTO users VALUES (3, 'mem1')");
+        jdbc.update("INSERT INTO projects VALUES (1, 'Proj A', 2, NULL), (2, 'Proj B', 2, CURRENT_TIMESTAMP), (3, 'Proj C', 9, NULL)");
+        jdbc.update("INSERT INTO tasks VALUES (10, 'Fix, \"now\"', 'line 1\nline 2\r\nline 3', 'TODO', 'HIGH', DATE '2026-10-19', 1, 3)");
+        jdbc.update("INSERT INTO tasks VALUES (11, 'Plain', NULL, 'DONE', 'LOW', DATE '2026-11-01', 1, NULL)");
+        // a tombstoned project of the same manager, and another manager's project
+        jdbc.update("INSERT INTO tasks VALUES (12, 'Deleted', 'd', 'TODO', 'LOW', DATE '2026-10-20', 2, 3)");
+        jdbc.update("INSERT INTO tasks VALUES (13, 'Other', 'd', 'TODO', 'LOW', DATE '2026-10-20', 3, 3)");
+
+        taskExportService = new TaskExportService(dataSource, new DataSourceTransactionManager(dataSource), objectMapper, 100);
+    }
+
+    // runs the export and returns the body, which must be gzipped
+    private String export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.exportTasksByManagerId(2L, format).writeTo(out);
+
+        byte[] body = out.toByteArray();
+        assertEquals((byte) 0x1f, body[0]);
+        assertEquals((byte) 0x8b, body[1]);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // TEST 1: NDJSON writes one object per line with every column in order, IDs as numbers and missing values as
+    // null; tasks of tombstoned projects and of other managers are left out
+    @Test
+    void testExportNdjson_OneObjectPerTask() throws Exception {
+        String body = export(ExportFormat.NDJSON);
+        assertTrue(body.endsWith("\n"));
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        List<String> fields = new ArrayList<>();
+        for (Iterator<String> names = first.fieldNames(); names.hasNext(); ) {
+            fields.add(names.next());
+        }
+        assertEquals(List.of("id", "title", "description", "status", "priority", "dueDate", "projectId", "projectName", "memberId", "memberName"), fields);
+        assertTrue(first.get("id").isNumber());
+        assertEquals(10, first.get("id").longValue());
+        assertEquals("Fix, \"now\"", first.get("title").textValue());
+        assertEquals("line 1\nline 2\r\nline 3", first.get("description").textValue());
+        assertEquals("2026-10-19", first.get("dueDate").textValue());
+        assertEquals(1, first.get("projectId").longValue());
+        assertEquals(3, first.get("memberId").longValue());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(11, second.get("id").longValue());
+        assertTrue(second.get("description").isNull());
+        assertTrue(second.get("memberId").isNull());
+        assertTrue(second.get("memberName").isNull());
+    }
+
+    // TEST 2: CSV writes a header and one row per task; values with commas, quotes or line breaks are quoted with
+    // inner quotes doubled, and missing values are empty
+    @Test
+    void testExportCsv_EscapesValues() throws Exception {
+        String body = export(ExportFormat.CSV);
+
+        assertEquals("id,title,description,status,priority,dueDate,projectId,projectName,memberId,memberName\n"
+                + "10,\"Fix, \"\"now\"\"\",\"line 1\nline 2\r\nline 3\",TODO,HIGH,2026-10-19,1,Proj A,3,mem1\n"
+                + "11,Plain,,DONE,LOW,2026-11-01,1,Proj A,,\n", body);
+        assertFalse(body.contains("Deleted"));
+        assertFalse(body.contains("Other"));
+    }
+
+    // TEST 3: The format parameter is case-insensitive, and an unknown one is a 400 listing the allowed formats
+    @Test
+    void testExportFormat_UnknownIsBadRequest() throws Exception {
+        assertEquals(ExportFormat.CSV, ExportFormat.parse("Csv"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.parse("ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.parse("xml"));
+
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        new WebConfig(Jackson2ObjectMapperBuilder.json()).addFormatters(conversionService);
+        ManagerController controller = new ManagerController(mock(ProjectService.class), mock(TaskService.class), taskExportService,
+                mock(TaskArchiveService.class), mock(TaskSearchService.class), mock(DashboardService.class), mock(TaskDependencyService.class),
+                mock(CycleTimeService.class), mock(BurndownService.class));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setConversionService(conversionService)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/v1/managers/projects/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value 'xml' for parameter 'format'. Allowed values: ndjson, csv"));
+    }
+}
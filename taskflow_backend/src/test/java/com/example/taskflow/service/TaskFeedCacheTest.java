@@ -0,0 +1,91 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.utils.LocalInvalidationTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskFeedCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(new LocalInvalidationTransport(), registry, 0, 100);
+
+    // TEST 1: Repeated reads are served from the cache and counted as hits
+    @Test
+    void testGet_CachesFeed() {
+        TaskFeedCache cache = new TaskFeedCache(registry, bus, true, 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return List.of(task(1L, TaskStatus.TODO));
+            });
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(4, registry.get("taskflow.feed.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("taskflow.feed.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    // TEST 2: Writes patch the cached feed instead of dropping it
+    @Test
+    void testPutAndRemove_PatchFeed() {
+        TaskFeedCache cache = new TaskFeedCache(registry, bus, true, 10, 60_000);
+        cache.get(1L, () -> List.of(task(1L, TaskStatus.TODO), task(2L, TaskStatus.TODO)));
+
+        cache.put(1L, task(2L, TaskStatus.DONE));
+        cache.put(1L, task(3L, TaskStatus.TODO));
+        cache.remove(1L, 1L);
+
+        List<TaskResponse> feed = cache.get(1L, List::of);
+        assertEquals(List.of(2L, 3L), feed.stream().map(TaskResponse::getId).toList());
+        assertEquals(TaskStatus.DONE, feed.get(0).getStatus());
+    }
+
+    // TEST 3: The least recently read feed is evicted once the cache is full
+    @Test
+    void testGet_EvictsLeastRecentlyUsed() {
+        TaskFeedCache cache = new TaskFeedCache(registry, bus, true, 2, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> List.of(task(1L, TaskStatus.TODO)));
+        cache.get(2L, () -> List.of(task(2L, TaskStatus.TODO)));
+        cache.get(1L, List::of);
+        cache.get(3L, () -> List.of(task(3L, TaskStatus.TODO)));
+
+        cache.get(2L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.size());
+        assertEquals(2, registry.get("taskflow.feed.cache.evictions").counter().count());
+    }
+
+    // TEST 4: A feed loaded while a write happens is returned but not cached
+    @Test
+    void testGet_SkipsCachingRacingLoad() {
+        TaskFeedCache cache = new TaskFeedCache(registry, bus, true, 10, 60_000);
+
+        cache.get(1L, () -> {
+            cache.put(1L, task(2L, TaskStatus.TODO));
+            return List.of(task(1L, TaskStatus.TODO));
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    private static TaskResponse task(Long id, TaskStatus status) {
+        return new TaskResponse(id, "Task " + id, "description", LocalDate.of(2030, 1, 1), status, PriorityType.LOW);
+    }
+}
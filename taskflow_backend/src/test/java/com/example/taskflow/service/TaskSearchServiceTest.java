@@ -0,0 +1,35 @@
+package com.example.taskflow.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TaskSearchServiceTest {
+
+    // TEST 1: Words are AND-ed and the last one is prefix-matched
+    @Test
+    void testToTsQuery_LastTermIsPrefix() {
+        assertEquals("deploy & serv:*", TaskSearchService.toTsQuery("Deploy serv"));
+    }
+
+    // TEST 2: tsquery operators and punctuation in user input are dropped
+    @Test
+    void testToTsQuery_StripsOperators() {
+        assertEquals("login & bug:*", TaskSearchService.toTsQuery("login & !bug:* | ("));
+        assertEquals("élan & 42:*", TaskSearchService.toTsQuery("  élan, 42 "));
+    }
+
+    // TEST 3: Input without any letters or digits yields no query
+    @Test
+    void testToTsQuery_EmptyInput() {
+        assertNull(TaskSearchService.toTsQuery(null));
+        assertNull(TaskSearchService.toTsQuery(" &|!: "));
+    }
+
+    // TEST 4: Long inputs are capped at eight terms
+    @Test
+    void testToTsQuery_CapsTermCount() {
+        assertEquals("a & b & c & d & e & f & g & h:*", TaskSearchService.toTsQuery("a b c d e f g h i j"));
+    }
+}
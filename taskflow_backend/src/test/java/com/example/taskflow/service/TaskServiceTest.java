@@ -0,0 +1,144 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.entity.Task;
+import com.example.taskflow.entity.User;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.ProjectRepository;
+import com.example.taskflow.repository.SparseProjectionRepository;
+import com.example.taskflow.repository.TaskRepository;
+import com.example.taskflow.repository.UserRepository;
+import com.example.taskflow.utils.ResponseHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskServiceTest {
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TaskReminderService taskReminderService;
+    @Mock
+    private TaskFeedCache taskFeedCache;
+    @Mock
+    private TaskDependencyService taskDependencyService;
+    @Mock
+    private TaskAssignmentService taskAssignmentService;
+    @Mock
+    private TaskTransitionLog taskTransitionLog;
+    @Mock
+    private BurndownService burndownService;
+    @Mock
+    private SparseProjectionRepository sparseProjectionRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(taskRepository, projectRepository, userRepository, taskReminderService, taskFeedCache, taskDependencyService,
+                taskAssignmentService, taskTransitionLog, burndownService, sparseProjectionRepository, transactionManager, new SimpleMeterRegistry(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Task task(Long id, Long memberId) {
+        User member = new User();
+        member.setId(memberId);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDueDate(LocalDate.now().plusDays(3));
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(PriorityType.HIGH);
+        task.setProjectId(1L);
+        task.setMember(member);
+        return task;
+    }
+
+    // ends the transaction the way the transaction manager does: synchronization is cleared first
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // TEST 1: A status change reaches the reminder wheel, dependency graph, assignment heap and feed cache only
+    // once its transaction commits
+    @Test
+    void testUpdateStatusById_PatchesNodeStateOnCommitOnly() {
+        Task task = task(4L, 3L);
+        when(taskRepository.findByIdAndMember_Id(4L, 3L)).thenReturn(Optional.of(task));
+
+        TransactionSynchronizationManager.initSynchronization();
+        taskService.updateStatusById(4L, "in_progress", 3L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verifyNoInteractions(taskReminderService, taskDependencyService, taskAssignmentService, taskFeedCache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        taskService.updateStatusById(4L, "done", 3L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(taskReminderService).taskSaved(task);
+        verify(taskDependencyService).taskSaved(task);
+        verify(taskAssignmentService).taskSaved(task, TaskAssignmentService.openLoad(TaskStatus.IN_PROGRESS, PriorityType.HIGH));
+        verify(taskFeedCache).put(eq(3L), any());
+    }
+
+    // TEST 2: A warm feed serves a selection of cached fields, but one naming projectName or assignedTo is read
+    // from the database, since cached feeds do not have them
+    @Test
+    void testViewTasks_WarmFeedOnlyServesCachedFields() {
+        TaskResponse cached = new TaskResponse(4L, "Task 4", "d", LocalDate.now(), TaskStatus.TODO, PriorityType.HIGH);
+        when(taskFeedCache.getIfPresent(3L)).thenReturn(List.of(cached));
+
+        ResponseEntity<ResponseHandler<List<TaskResponse>>> fromCache = taskService.viewTasks(3L, "id,status");
+        TaskResponse trimmed = fromCache.getBody().getData().get(0);
+        assertEquals(4L, trimmed.getId());
+        assertEquals(TaskStatus.TODO, trimmed.getStatus());
+        assertNull(trimmed.getTaskTitle());
+        verify(sparseProjectionRepository, never()).findTasksByMemberId(anyLong(), any());
+
+        TaskResponse projected = new TaskResponse();
+        projected.setTaskTitle("Task 4");
+        projected.setProjectName("Proj A");
+        when(sparseProjectionRepository.findTasksByMemberId(eq(3L), any())).thenReturn(List.of(projected));
+
+        ResponseEntity<ResponseHandler<List<TaskResponse>>> fromDatabase = taskService.viewTasks(3L, "taskTitle,projectName");
+        assertEquals("Proj A", fromDatabase.getBody().getData().get(0).getProjectName());
+    }
+}
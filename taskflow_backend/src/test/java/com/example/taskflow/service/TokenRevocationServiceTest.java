@@ -0,0 +1,110 @@
+package com.example.taskflow.service;
+
+import com.example.taskflow.entity.RevokedToken;
+import com.example.taskflow.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, invalidationBus, 1000, 0.01, 86_400_000L, 60_000L);
+    }
+
+    private static RevokedToken revoked(Long id, String tokenId, LocalDateTime revokedAt) {
+        return new RevokedToken(id, tokenId, 3L, revokedAt, revokedAt.plusDays(1));
+    }
+
+    private static Claims claims(String tokenId) {
+        return claims(tokenId, LocalDateTime.now());
+    }
+
+    private static Claims claims(String tokenId, LocalDateTime issuedAt) {
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn(tokenId);
+        lenient().when(claims.getSubject()).thenReturn("3");
+        lenient().when(claims.getIssuedAt()).thenReturn(Date.from(issuedAt.atZone(ZoneId.systemDefault()).toInstant()));
+        lenient().when(claims.getExpiration()).thenReturn(Date.from(issuedAt.plusDays(1).atZone(ZoneId.systemDefault()).toInstant()));
+        return claims;
+    }
+
+    // TEST 1: A revocation that commits after a higher-numbered one was read is still picked up, and the overlap
+    // re-reads the window before the previous sync
+    @Test
+    void testSync_PicksUpRevocationsCommittedOutOfOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        when(revokedTokenRepository.findAll()).thenReturn(List.of(revoked(11L, "b", now)));
+        tokenRevocationService.start();
+
+        // row 10 was inserted first but committed after row 11 had been read
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqual(any()))
+                .thenReturn(List.of(revoked(10L, "a", now.minusSeconds(1)), revoked(11L, "b", now)));
+        when(revokedTokenRepository.existsByTokenId("a")).thenReturn(true);
+        tokenRevocationService.sync();
+
+        assertTrue(tokenRevocationService.isRevoked(claims("a")));
+        assertFalse(tokenRevocationService.isRevoked(claims("c")));
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository).findByRevokedAtGreaterThanEqual(since.capture());
+        assertTrue(since.getValue().isBefore(now.minusSeconds(59)));
+    }
+
+    // TEST 2: A "log out everywhere" cut-off revokes the user's tokens issued at or before it, and neither those
+    // nor later tokens are checked against the database
+    @Test
+    void testIsRevoked_UserCutoffComparedInMemory() {
+        LocalDateTime cutoff = LocalDateTime.now().withNano(0);
+        when(revokedTokenRepository.findAll()).thenReturn(List.of(revoked(1L, null, cutoff)));
+        tokenRevocationService.start();
+
+        assertTrue(tokenRevocationService.isRevoked(claims(null, cutoff.minusHours(1))));
+        assertTrue(tokenRevocationService.isRevoked(claims(null, cutoff)));
+        assertFalse(tokenRevocationService.isRevoked(claims(null, cutoff.plusSeconds(1))));
+        verify(revokedTokenRepository, never()).existsByTokenId(anyString());
+    }
+
+    // TEST 3: Revoking a token another request has already revoked inserts nothing and announces nothing
+    @Test
+    void testRevokeToken_AlreadyRevokedIsNoOp() {
+        when(revokedTokenRepository.insertIfAbsent(eq("a"), eq(3L), any(), any())).thenReturn(0);
+        tokenRevocationService.revokeToken(claims("a"));
+        verify(invalidationBus, never()).publishAll(anyString());
+
+        when(revokedTokenRepository.insertIfAbsent(eq("b"), anyLong(), any(), any())).thenReturn(1);
+        when(revokedTokenRepository.existsByTokenId("b")).thenReturn(true);
+        tokenRevocationService.revokeToken(claims("b"));
+        verify(invalidationBus).publishAll("revocation");
+        assertTrue(tokenRevocationService.isRevoked(claims("b")));
+    }
+}
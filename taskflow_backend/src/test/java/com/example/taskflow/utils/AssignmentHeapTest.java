@@ -0,0 +1,61 @@
+package com.example.taskflow.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssignmentHeapTest {
+
+    // TEST 1: Tasks go to the eligible member with the lowest load, and completed work frees a member up
+    @Test
+    void testAssign_LowestLoadFirst() {
+        AssignmentHeap heap = new AssignmentHeap(Map.of(1L, 4L, 2L, 1L, 3L, 1L));
+
+        assertEquals(2L, heap.assign(4, memberId -> true));
+        assertEquals(3L, heap.assign(1, memberId -> true));
+        assertEquals(3L, heap.assign(1, memberId -> memberId != 1L));
+        assertEquals(3L, heap.load(3L));
+
+        heap.adjust(1L, -4);
+        heap.adjust(9L, 5);
+        assertEquals(1L, heap.assign(2, memberId -> true));
+        assertEquals(2L, heap.load(1L));
+        assertNull(heap.load(9L));
+
+        assertNull(heap.assign(1, memberId -> false));
+        assertNull(new AssignmentHeap(Map.of()).assign(1, memberId -> true));
+    }
+
+    // TEST 2: A thousand mixed-priority tasks spread over 50 members end up within one heavy task of even
+    @Test
+    void testAssignAll_BalancesLoad() {
+        Map<Long, Long> loads = new HashMap<>();
+        for (long memberId = 1; memberId <= 50; memberId++) {
+            loads.put(memberId, memberId % 5);
+        }
+        AssignmentHeap heap = new AssignmentHeap(loads);
+
+        long[] weights = new long[1000];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = i % 3 == 0 ? 4 : i % 3 == 1 ? 2 : 1;
+        }
+        List<Long> members = heap.assignAll(weights, memberId -> memberId != 50L);
+
+        assertEquals(1000, members.size());
+        assertTrue(members.stream().noneMatch(memberId -> memberId == 50L));
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long memberId = 1; memberId < 50; memberId++) {
+            min = Math.min(min, heap.load(memberId));
+            max = Math.max(max, heap.load(memberId));
+        }
+        assertTrue(max - min <= 4, min + ".." + max);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.taskflow.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependencyGraphTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 1);
+
+    private static DependencyGraph.TaskNode task(long id, int dueInDays) {
+        return new DependencyGraph.TaskNode(id, "Task " + id, DAY.plusDays(dueInDays), false);
+    }
+
+    private static void assertOrdered(DependencyGraph graph, List<long[]> edges) {
+        Map<Long, Integer> position = new HashMap<>();
+        List<Long> order = graph.topologicalOrder();
+        for (int i = 0; i < order.size(); i++) {
+            position.put(order.get(i), i);
+        }
+        for (long[] edge : edges) {
+            assertTrue(position.get(edge[1]) < position.get(edge[0]), edge[0] + " is ordered before its dependency " + edge[1]);
+        }
+    }
+
+    // TEST 1: Edges against the current order are reordered, and edges closing a cycle are rejected
+    @Test
+    void testAddEdge_ReordersAndRejectsCycles() {
+        DependencyGraph graph = DependencyGraph.build(List.of(task(1, 1), task(2, 1), task(3, 1), task(4, 1)), List.of());
+        List<long[]> edges = new ArrayList<>();
+
+        // 1 <- 2 <- 3 <- 4, each edge added against the initial order 1, 2, 3, 4
+        for (long[] edge : new long[][] {{1, 2}, {2, 3}, {3, 4}}) {
+            assertTrue(graph.addEdge(edge[0], edge[1]));
+            edges.add(edge);
+            assertOrdered(graph, edges);
+        }
+        assertEquals(List.of(4L, 3L, 2L, 1L), graph.topologicalOrder());
+        assertFalse(graph.addEdge(1, 2));
+
+        assertTrue(graph.wouldCreateCycle(4, 1));
+        assertTrue(graph.wouldCreateCycle(2, 2));
+        assertFalse(graph.wouldCreateCycle(1, 4));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(1, 9));
+
+        graph.removeEdge(2, 3);
+        assertFalse(graph.wouldCreateCycle(3, 1));
+        assertThrows(IllegalStateException.class, () -> DependencyGraph.build(List.of(task(1, 1), task(2, 1)),
+                List.of(new long[] {1, 2}, new long[] {2, 1})));
+    }
+
+    // TEST 2: The schedule follows the latest open dependency chain and flags tasks pushed past their due date
+    @Test
+    void testSchedule_CriticalPathAndDelayedTasks() {
+        // 3 depends on 1 and 2, 4 depends on 3; 2 is due after 3 and 4
+        DependencyGraph graph = DependencyGraph.build(List.of(task(1, 2), task(2, 10), task(3, 5), task(4, 6)),
+                List.of(new long[] {3, 1}, new long[] {3, 2}, new long[] {4, 3}));
+
+        DependencyGraph.Schedule schedule = graph.schedule();
+        assertEquals(DAY.plusDays(10), schedule.projectFinish());
+        assertEquals(List.of(2L, 3L, 4L), schedule.criticalPath().stream().map(DependencyGraph.ScheduledTask::id).toList());
+        assertEquals(List.of(3L, 4L), schedule.delayed().stream().map(DependencyGraph.ScheduledTask::id).toList());
+
+        // completing task 2 releases 3 and 4; the new task 5 is independent
+        graph.putTask(new DependencyGraph.TaskNode(2, "Task 2", DAY.plusDays(10), true));
+        graph.putTask(task(5, 3));
+        schedule = graph.schedule();
+        assertNull(graph.earliestFinish(2));
+        assertEquals(DAY.plusDays(6), schedule.projectFinish());
+        assertEquals(List.of(4L), schedule.criticalPath().stream().map(DependencyGraph.ScheduledTask::id).toList());
+        assertEquals(List.of(), schedule.delayed());
+
+        // moving 3 out pushes 4, and through the new edge 5
+        graph.removeTask(1);
+        graph.putTask(task(3, 8));
+        graph.addEdge(5, 4);
+        schedule = graph.schedule();
+        assertEquals(DAY.plusDays(8), schedule.projectFinish());
+        assertEquals(List.of(3L, 4L, 5L), schedule.criticalPath().stream().map(DependencyGraph.ScheduledTask::id).toList());
+        assertEquals(List.of(4L, 5L), schedule.delayed().stream().map(DependencyGraph.ScheduledTask::id).toList());
+    }
+
+    // TEST 3: 100 chains of 100 tasks, each chain linked after the previous one against the initial order
+    @Test
+    void testAddEdge_LargeGraph() {
+        int chains = 100;
+        int length = 100;
+        List<DependencyGraph.TaskNode> tasks = new ArrayList<>();
+        for (long id = 1; id <= chains * length; id++) {
+            tasks.add(task(id, id == 1 ? 100 : 1));
+        }
+        DependencyGraph graph = DependencyGraph.build(tasks, List.of());
+
+        // chain c holds tasks c+1, c+1+chains, c+1+2*chains, ...; its first task depends on the last task of chain c-1
+        List<long[]> edges = new ArrayList<>();
+        for (long c = 0; c < chains; c++) {
+            for (long j = 1; j < length; j++) {
+                edges.add(new long[] {c + 1 + j * chains, c + 1 + (j - 1) * chains});
+            }
+            if(c > 0) {
+                edges.add(new long[] {c + 1, c + (length - 1) * chains});
+            }
+        }
+        for (long[] edge : edges) {
+            assertTrue(graph.addEdge(edge[0], edge[1]));
+        }
+
+        assertEquals(chains * length, graph.size());
+        assertOrdered(graph, edges);
+        assertTrue(graph.wouldCreateCycle(1, chains * length));
+
+        // task 1 is due last and everything is downstream of it
+        DependencyGraph.Schedule schedule = graph.schedule();
+        assertEquals(DAY.plusDays(100), schedule.projectFinish());
+        assertEquals(chains * length, schedule.criticalPath().size());
+        assertEquals(chains * length - 1, schedule.delayed().size());
+    }
+}
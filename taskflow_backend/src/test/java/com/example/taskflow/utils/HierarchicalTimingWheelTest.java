@@ -0,0 +1,70 @@
+package com.example.taskflow.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    // TEST 1: Items expire on the tick of their deadline, across every level and the overflow
+    @Test
+    void testAdvance_ExpiresAtDeadline() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1_000, 8, 3, START);
+        Random random = new Random(42);
+
+        List<long[]> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // up to 2000 ticks ahead; the three levels only cover 512
+            long deadline = START + 1_000 + random.nextInt(2_000_000);
+            wheel.schedule(i, deadline);
+            deadlines.add(new long[] {i, deadline});
+        }
+
+        int expired = 0;
+        for (long now = START; now <= START + 2_002_000; now += 1_000) {
+            for (Integer item : wheel.advance(now)) {
+                long deadline = deadlines.get(item)[1];
+                assertTrue(deadline <= now, "item " + item + " expired early");
+                assertTrue(deadline > now - 1_000, "item " + item + " expired late");
+                expired++;
+            }
+        }
+
+        assertEquals(2_000, expired);
+        assertEquals(0, wheel.size());
+    }
+
+    // TEST 2: Rescheduling moves an item and cancelling removes it
+    @Test
+    void testScheduleAndCancel_ReplaceDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, 2, START);
+
+        wheel.schedule("a", START + 5_000);
+        wheel.schedule("a", START + 20_000);
+        wheel.schedule("b", START + 5_000);
+        assertTrue(wheel.cancel("b"));
+        assertFalse(wheel.cancel("b"));
+
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 20_000));
+    }
+
+    // TEST 3: Deadlines already in the past come back on the next advance
+    @Test
+    void testSchedule_PastDeadlineIsDueImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1_000, 8, 2, START);
+
+        wheel.schedule("late", START - 60_000);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("late"), wheel.advance(START));
+        assertTrue(wheel.advance(START + 1_000).isEmpty());
+    }
+}
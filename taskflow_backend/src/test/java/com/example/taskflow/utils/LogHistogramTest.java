@@ -0,0 +1,68 @@
+package com.example.taskflow.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogHistogramTest {
+
+    private static long exact(long[] sorted, double q) {
+        return sorted[(int) Math.max(0, Math.ceil(q * sorted.length) - 1)];
+    }
+
+    // TEST 1: p50 and p95 of skewed durations stay within 3% of the exact values
+    @Test
+    void testQuantile_WithinRelativeError() {
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // a minute to a few months, in seconds, log-normally spread
+            values[i] = (long) Math.exp(8 + 2 * random.nextGaussian()) + 60;
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[] {0.5, 0.95, 0.99}) {
+            long expected = exact(values, q);
+            long actual = histogram.quantile(q);
+            assertTrue(Math.abs(actual - expected) <= expected * 0.03, q + ": " + actual + " vs " + expected);
+        }
+        assertEquals(values.length, histogram.count());
+
+        LogHistogram small = new LogHistogram();
+        assertNull(small.quantile(0.5));
+        small.record(7);
+        small.record(-5);
+        small.record(Long.MAX_VALUE);
+        assertEquals(0L, small.quantile(0.1));
+        assertEquals(7L, small.quantile(0.5));
+        assertTrue(small.quantile(1.0) >= LogHistogram.MAX_VALUE * 0.97);
+    }
+
+    // TEST 2: Merging per-project histograms gives the same quantiles as recording everything in one
+    @Test
+    void testMerge_MatchesCombinedHistogram() {
+        Random random = new Random(7);
+        LogHistogram combined = new LogHistogram();
+        LogHistogram merged = new LogHistogram();
+        for (int project = 0; project < 20; project++) {
+            LogHistogram histogram = new LogHistogram();
+            for (int i = 0; i < 500; i++) {
+                long value = (long) (random.nextDouble() * 86_400 * (project + 1));
+                histogram.record(value);
+                combined.record(value);
+            }
+            merged.merge(histogram);
+        }
+
+        assertEquals(combined.count(), merged.count());
+        assertEquals(combined.quantile(0.5), merged.quantile(0.5));
+        assertEquals(combined.quantile(0.95), merged.quantile(0.95));
+    }
+}
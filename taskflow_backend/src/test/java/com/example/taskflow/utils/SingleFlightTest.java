@@ -0,0 +1,103 @@
+package com.example.taskflow.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTest {
+
+    private static double calls(MeterRegistry registry, String result) {
+        return registry.get("taskflow.singleflight.calls").tag("name", "test").tag("result", result).counter().count();
+    }
+
+    // TEST 1: Concurrent calls for the same key run the computation once and share its result
+    @Test
+    void testExecute_CollapsesConcurrentCalls() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", 0, registry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<Integer> leader = pool.submit(() -> flight.execute(1L, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 42;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(pool.submit(() -> flight.execute(1L, executions::incrementAndGet)));
+            }
+            while (calls(registry, "shared") < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1, calls(registry, "executed"));
+        assertEquals(7, calls(registry, "shared"));
+
+        // the flight is over and there is no ttl, so the next call runs again
+        assertEquals(2, flight.execute(1L, executions::incrementAndGet));
+    }
+
+    // TEST 2: With a ttl the completed result is reused, per key
+    @Test
+    void testExecute_ReusesResultWithinTtl() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", 60_000, registry);
+        AtomicInteger executions = new AtomicInteger();
+
+        assertEquals(1, flight.execute(1L, executions::incrementAndGet));
+        assertEquals(1, flight.execute(1L, executions::incrementAndGet));
+        assertEquals(2, flight.execute(2L, executions::incrementAndGet));
+
+        assertEquals(2, calls(registry, "executed"));
+        assertEquals(1, calls(registry, "cached"));
+    }
+
+    // TEST 3: A failure reaches the caller and is not remembered
+    @Test
+    void testExecute_DoesNotCacheFailures() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", 60_000, new SimpleMeterRegistry());
+
+        assertThrows(IllegalStateException.class, () -> flight.execute(1L, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals(7, flight.execute(1L, () -> 7));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.taskflow.utils;
+
+import com.example.taskflow.dto.TaskResponse;
+import com.example.taskflow.enums.PriorityType;
+import com.example.taskflow.enums.TaskStatus;
+import com.example.taskflow.repository.SparseProjectionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SparseFieldsTest {
+
+    private static final SparseFields<TaskResponse> FIELDS = SparseProjectionRepository.TASK_FIELDS;
+
+    // TEST 1: The selection keeps declared order and becomes the JPQL SELECT list
+    @Test
+    void testSelect_BuildsSelectClause() {
+        List<SparseFields.Field<TaskResponse>> selection = FIELDS.select(" status, id ,taskTitle");
+
+        assertEquals("t.id, t.title, t.status", FIELDS.selectClause(selection));
+        assertNull(FIELDS.select(""));
+        assertNull(FIELDS.select(null));
+    }
+
+    // TEST 2: Unknown fields are rejected by name
+    @Test
+    void testSelect_RejectsUnknownFields() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FIELDS.select("id,password"));
+        assertTrue(e.getMessage().startsWith("Unknown fields: password."), e.getMessage());
+    }
+
+    // TEST 3: Rows and cached DTOs only carry the selected fields
+    @Test
+    void testFromRowAndCopy_SetOnlySelectedFields() {
+        TaskResponse row = FIELDS.fromRow(FIELDS.select("id,status"), new Object[] {7L, TaskStatus.DONE});
+        assertEquals(7L, row.getId());
+        assertEquals(TaskStatus.DONE, row.getStatus());
+        assertNull(row.getTaskTitle());
+
+        TaskResponse single = FIELDS.fromRow(FIELDS.select("taskTitle"), "Deploy");
+        assertEquals("Deploy", single.getTaskTitle());
+
+        TaskResponse full = new TaskResponse(7L, "Deploy", "description", LocalDate.of(2030, 1, 1), TaskStatus.TODO, PriorityType.HIGH);
+        TaskResponse copy = FIELDS.copy(FIELDS.select("priority"), full);
+        assertEquals(PriorityType.HIGH, copy.getPriority());
+        assertNull(copy.getId());
+        assertNull(copy.getDescription());
+    }
+}